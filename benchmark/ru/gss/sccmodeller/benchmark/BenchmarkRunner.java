@@ -0,0 +1,48 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Start of all benchmarks with profiler of allocations.
+ * Optional argument is regular expression for names of benchmarks.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * Constructor.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Main method.
+     * @param args regular expression for names of benchmarks
+     * @throws RunnerException exception
+     */
+    public static void main(final String[] args) throws RunnerException {
+        String include = BenchmarkRunner.class.getPackage().getName() + ".";
+        if (args.length > 0) {
+            include = args[0];
+        }
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .forks(1)
+                .build();
+        new Runner(options).run();
+    }
+}
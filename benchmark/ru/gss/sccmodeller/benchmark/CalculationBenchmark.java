@@ -0,0 +1,69 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.gss.sccmodeller.data.DataSeries;
+import ru.gss.sccmodeller.data.DataSet;
+
+/**
+ * Benchmark of calculation of dependences for CGR and SIF at several resolutions of grid.
+ * Steps of grids of default parameter set are divided by resolution.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CalculationBenchmark {
+
+    /**
+     * Divider of steps of grids.
+     */
+    @Param({"1", "4", "16"})
+    private int resolution;
+
+    /**
+     * Parameter set.
+     */
+    private DataSet dataSet;
+
+    /**
+     * Preparation of parameter set.
+     */
+    @Setup
+    public void setup() {
+        dataSet = new DataSet();
+        dataSet.setDepthStep(dataSet.getDepthStep() / resolution);
+        dataSet.setStressIFStep(dataSet.getStressIFStep() / resolution);
+    }
+
+    /**
+     * Calculation dependence for CGR.
+     * @return dependence
+     */
+    @Benchmark
+    public DataSeries calculateCGR() {
+        dataSet.calculateCGR();
+        return dataSet.getDataCGR();
+    }
+
+    /**
+     * Calculation dependence for SIF.
+     * @return dependence
+     */
+    @Benchmark
+    public DataSeries calculateSIF() {
+        dataSet.calculateSIF();
+        return dataSet.getDataSIF();
+    }
+}
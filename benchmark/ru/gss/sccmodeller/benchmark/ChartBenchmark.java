@@ -0,0 +1,117 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.jfree.chart.JFreeChart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.gss.sccmodeller.chart.ChartMaker;
+import ru.gss.sccmodeller.data.DataList;
+import ru.gss.sccmodeller.data.DataSeries;
+import ru.gss.sccmodeller.data.DataSeriesCollection;
+import ru.gss.sccmodeller.data.DataSet;
+
+/**
+ * Benchmark of creation of datasets and charts in headless mode.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(jvmArgsAppend = "-Djava.awt.headless=true")
+public class ChartBenchmark {
+
+    /**
+     * Count of parameter sets.
+     */
+    @Param({"1", "9"})
+    private int dataSetCount;
+    /**
+     * Divider of time step.
+     */
+    @Param({"1", "16"})
+    private int resolution;
+
+    /**
+     * List of parameter set.
+     */
+    private DataList data;
+    /**
+     * CCD chart for refresh.
+     */
+    private JFreeChart chart;
+    /**
+     * Two variants of dependence of first parameter set, they are changed on every refresh.
+     */
+    private DataSeries[] variants;
+    /**
+     * Count of refreshes.
+     */
+    private int refreshCount;
+
+    /**
+     * Preparation of calculated parameter sets.
+     */
+    @Setup
+    public void setup() {
+        data = new DataList();
+        for (int i = 0; i < dataSetCount; i++) {
+            DataSet o = new DataSet();
+            o.setName("Участок " + (i + 1));
+            o.setStress(150 + 10 * i);
+            o.setCalculationMethod(DataSet.METHOD_QUADRATURE);
+            o.setTimeStep(o.getTimeStep() / resolution);
+            o.calculateCCD();
+            data.getDataSet().add(o);
+        }
+        chart = ChartMaker.createChart(data, 2);
+        DataSeries s = data.getDataSet().get(0).getData(DataSet.DEPENDENCE_CCD);
+        double[] x = new double[s.size()];
+        double[] y = new double[s.size()];
+        for (int i = 0; i < s.size(); i++) {
+            x[i] = s.getX(i);
+            y[i] = s.getY(i);
+        }
+        variants = new DataSeries[] {s, new DataSeries(x, y, x.length)};
+    }
+
+    /**
+     * Creation of dataset for CCD chart.
+     * @return dataset
+     */
+    @Benchmark
+    public DataSeriesCollection createDatasetCCD() {
+        return data.createDatasetCCD();
+    }
+
+    /**
+     * Creation of CCD chart.
+     * @return chart
+     */
+    @Benchmark
+    public JFreeChart createChart() {
+        return ChartMaker.createChart(data, 2);
+    }
+
+    /**
+     * Refresh of CCD chart after recalculation of one parameter set.
+     * @return chart
+     */
+    @Benchmark
+    public JFreeChart refreshChart() {
+        refreshCount++;
+        data.getDataSet().get(0).setData(DataSet.DEPENDENCE_CCD, variants[refreshCount % 2]);
+        ChartMaker.refreshChart(chart, data, 2);
+        return chart;
+    }
+}
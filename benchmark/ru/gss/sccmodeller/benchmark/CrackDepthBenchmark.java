@@ -0,0 +1,64 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.gss.sccmodeller.data.DataSeries;
+import ru.gss.sccmodeller.data.DataSet;
+
+/**
+ * Benchmark of calculation of dependence for CCD by all methods at several resolutions of grid.
+ * Time step of default parameter set is divided by resolution.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrackDepthBenchmark {
+
+    /**
+     * Divider of time step.
+     */
+    @Param({"1", "4", "16"})
+    private int resolution;
+    /**
+     * Calculation method (DataSet.METHOD_*).
+     */
+    @Param({"0", "1", "2"})
+    private int method;
+
+    /**
+     * Parameter set.
+     */
+    private DataSet dataSet;
+
+    /**
+     * Preparation of parameter set.
+     */
+    @Setup
+    public void setup() {
+        dataSet = new DataSet();
+        dataSet.setCalculationMethod(method);
+        dataSet.setTimeStep(dataSet.getTimeStep() / resolution);
+    }
+
+    /**
+     * Calculation dependence for CCD.
+     * @return dependence
+     */
+    @Benchmark
+    public DataSeries calculateCCD() {
+        dataSet.calculateCCD();
+        return dataSet.getDataCCD();
+    }
+}
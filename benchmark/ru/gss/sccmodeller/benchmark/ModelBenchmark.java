@@ -0,0 +1,167 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.gss.sccmodeller.data.CrackGrowthKernel;
+import ru.gss.sccmodeller.data.DataSet;
+import ru.gss.sccmodeller.data.StressIntensityKernel;
+import ru.gss.sccmodeller.data.TabulatedStressIntensityKernel;
+
+/**
+ * Benchmark of formulas of model.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelBenchmark {
+
+    /**
+     * Count of arguments.
+     */
+    private static final int COUNT = 1024;
+
+    /**
+     * Parameter set.
+     */
+    private DataSet dataSet;
+    /**
+     * Crack growth rate for parameter set.
+     */
+    private CrackGrowthKernel kernel;
+    /**
+     * Stress intensity factor by cubic spline for parameter set.
+     */
+    private StressIntensityKernel tabulatedKernel;
+    /**
+     * Stress intensity factor by exact formula for parameter set.
+     */
+    private StressIntensityKernel exactKernel;
+    /**
+     * Results of calculation for arrays.
+     */
+    private double[] result;
+    /**
+     * Values of stress intensity factor, MPam1/2.
+     */
+    private double[] stressIF;
+    /**
+     * Values of corrosion crack depth, m.
+     */
+    private double[] depth;
+
+    /**
+     * Preparation of arguments.
+     */
+    @Setup
+    public void setup() {
+        dataSet = new DataSet();
+        kernel = dataSet.getCrackGrowthKernel();
+        exactKernel = dataSet.getStressIntensityKernel();
+        result = new double[COUNT];
+        tabulatedKernel = new TabulatedStressIntensityKernel(dataSet.getWallThickness(), dataSet.getStress());
+        stressIF = new double[COUNT];
+        depth = new double[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            stressIF[i] = 20.5 + 30.0 * i / COUNT;
+            depth[i] = dataSet.getInitDepth() + 0.8 * dataSet.getWallThickness() * i / COUNT;
+        }
+    }
+
+    /**
+     * Crack growth rate.
+     * @return sum of values
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public double crackGrowthRate() {
+        double sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            sum = sum + kernel.evaluate(stressIF[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Stress intensity factor.
+     * @return sum of values
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public double stressIntensityFactor() {
+        double w = dataSet.getWallThickness();
+        double s = dataSet.getStress();
+        double sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            sum = sum + dataSet.stressIntensityFactor(depth[i], w, s);
+        }
+        return sum;
+    }
+
+    /**
+     * Stress intensity factor by cubic spline.
+     * @return sum of values
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public double stressIntensityFactorTabulated() {
+        double sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            sum = sum + tabulatedKernel.evaluate(depth[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Crack growth rate for array of values.
+     * @return array of values
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public double[] crackGrowthRateBatch() {
+        kernel.evaluate(stressIF, result, 0, COUNT);
+        return result;
+    }
+
+    /**
+     * Stress intensity factor for array of values.
+     * @return array of values
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public double[] stressIntensityFactorBatch() {
+        exactKernel.evaluate(depth, result, 0, COUNT);
+        return result;
+    }
+
+    /**
+     * Stress intensity factor by cubic spline for array of values.
+     * @return array of values
+     */
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public double[] stressIntensityFactorTabulatedBatch() {
+        tabulatedKernel.evaluate(depth, result, 0, COUNT);
+        return result;
+    }
+
+    /**
+     * Creation of crack growth rate for parameter set.
+     * @return crack growth rate
+     */
+    @Benchmark
+    public CrackGrowthKernel createKernel() {
+        return new CrackGrowthKernel(dataSet.getThresholdSIF(), dataSet.getCurrentDensity(), dataSet.getYieldStrength());
+    }
+}
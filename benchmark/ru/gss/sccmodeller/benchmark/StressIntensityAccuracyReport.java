@@ -0,0 +1,85 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+import ru.gss.sccmodeller.data.DataSet;
+import ru.gss.sccmodeller.data.StressIntensityKernel;
+import ru.gss.sccmodeller.data.TabulatedStressIntensityKernel;
+
+/**
+ * Report of accuracy of tabulated stress intensity factor in comparison with exact formula.
+ * Relative error of stress intensity factor is checked in random points of the range of table,
+ * error of time of reaching critical depth is checked for every calculation method
+ * and several stresses of default parameter set.
+ * Optional argument is count of random points.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public final class StressIntensityAccuracyReport {
+
+    /**
+     * Constructor.
+     */
+    private StressIntensityAccuracyReport() {
+    }
+
+    /**
+     * Main method.
+     * @param args count of random points
+     */
+    public static void main(final String[] args) {
+        int count = 1000000;
+        if (args.length > 0) {
+            count = Integer.parseInt(args[0]);
+        }
+        System.out.println(String.format(Locale.US, "Заявленная максимальная погрешность: %.3e",
+                TabulatedStressIntensityKernel.getMaxRelativeError()));
+        DataSet o = new DataSet();
+        double w = o.getWallThickness();
+        StressIntensityKernel exact = new StressIntensityKernel(w, o.getStress());
+        StressIntensityKernel tabulated = new TabulatedStressIntensityKernel(w, o.getStress());
+        Random random = new Random(1);
+        double maxError = 0;
+        double maxDepth = 0;
+        double sumError = 0;
+        for (int i = 0; i < count; i++) {
+            double x = TabulatedStressIntensityKernel.DEPTH_MIN + random.nextDouble()
+                    * (TabulatedStressIntensityKernel.DEPTH_MAX - TabulatedStressIntensityKernel.DEPTH_MIN);
+            double error = Math.abs(tabulated.evaluate(x * w) / exact.evaluate(x * w) - 1);
+            sumError = sumError + error;
+            if (error > maxError) {
+                maxError = error;
+                maxDepth = x;
+            }
+        }
+        System.out.println(String.format(Locale.US,
+                "Случайных точек: %d, максимальная погрешность: %.3e при a/w = %.4f, средняя: %.3e",
+                count, maxError, maxDepth, sumError / count));
+        System.out.println(String.format(Locale.US, "%-8s %-7s %16s %16s %10s %10s %10s",
+                "Метод", "σ, МПа", "tкр точн., год", "tкр сплайн, год", "Погр.", "Точн., мс", "Сплайн, мс"));
+        String[] methods = {"Эйлер", "РК45", "Глубина"};
+        double[] stresses = {250, 300, 400};
+        for (int m = DataSet.METHOD_EULER; m <= DataSet.METHOD_QUADRATURE; m++) {
+            for (double s : stresses) {
+                DataSet d = new DataSet();
+                d.setStress(s);
+                d.setCalculationMethod(m);
+                long t = System.nanoTime();
+                d.calculateCCD();
+                double timeExact = (System.nanoTime() - t) / 1e6;
+                double criticalExact = d.getCriticalTime();
+                d.setSifModel(DataSet.SIF_TABULATED);
+                t = System.nanoTime();
+                d.calculateCCD();
+                double timeTabulated = (System.nanoTime() - t) / 1e6;
+                double criticalTabulated = d.getCriticalTime();
+                System.out.println(String.format(Locale.US, "%-8s %-7.0f %16.9f %16.9f %10.2e %10.1f %10.1f",
+                        methods[m], s, criticalExact, criticalTabulated,
+                        Math.abs(criticalTabulated / criticalExact - 1), timeExact, timeTabulated));
+            }
+        }
+    }
+}
@@ -5,13 +5,23 @@ package ru.gss.sccmodeller;
 
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EventObject;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import javax.swing.Box;
 import org.jdesktop.application.Action;
+import org.jdesktop.application.Application;
 import org.jdesktop.application.SingleFrameApplication;
 import org.jdesktop.application.FrameView;
+import org.jdesktop.application.Task;
+import org.jdesktop.application.TaskMonitor;
 import javax.swing.JDialog;
 import javax.swing.JFileChooser;
 import javax.swing.JOptionPane;
@@ -19,6 +29,8 @@ import javax.swing.ListSelectionModel;
 import javax.swing.UIManager;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
 import org.jdesktop.swingx.decorator.HighlighterFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.ChartUtilities;
@@ -30,12 +42,19 @@ import ru.gss.sccmodeller.calculation.DataSIFTableModel;
 import ru.gss.sccmodeller.calculation.DataSetTableModel;
 import ru.gss.sccmodeller.chart.DlgParameterChartEdit;
 import ru.gss.sccmodeller.commons.FileChooserFactory;
+import ru.gss.sccmodeller.data.CalculationMonitor;
+import ru.gss.sccmodeller.data.DataExporter;
 import ru.gss.sccmodeller.data.DataList;
+import ru.gss.sccmodeller.data.DataSeries;
 import ru.gss.sccmodeller.data.DataSet;
+import ru.gss.sccmodeller.data.DiskResultCache;
+import ru.gss.sccmodeller.data.MappedResultStore;
+import ru.gss.sccmodeller.data.ParameterFileParser;
+import ru.gss.sccmodeller.data.ResultCache;
 
 /**
  * The main frame of the application.
- * @version 1.1.0 20.03.2020
+ * @version 1.1.0 18.10.2026
  * @author Sergey Guskov
  */
 public class SCCModellerView extends FrameView {
@@ -46,6 +65,11 @@ public class SCCModellerView extends FrameView {
         UIManager.put("JXTable.column.packSelected", "Упаковка выбранного столбца");
     }
 
+    /**
+     * Maximum count of records of store of trajectories added at once.
+     */
+    private static final int MAX_STORE_RECORD_COUNT = 1000;
+
     /**
      * Constructor.
      * @param app application
@@ -89,7 +113,26 @@ public class SCCModellerView extends FrameView {
 
         //Main objects
         data = new DataList();
+        long cacheSize = Long.getLong("sccmodeller.cacheSize", ResultCache.DEFAULT_MEMORY_BUDGET >> 20);
+        resultCache = new ResultCache(cacheSize << 20);
+        long diskCacheSize = Long.getLong("sccmodeller.diskCacheSize", DiskResultCache.DEFAULT_SIZE_LIMIT >> 20);
+        if (diskCacheSize > 0) {
+            resultCache.setDiskCache(new DiskResultCache(DiskResultCache.getDefaultDirectory(), diskCacheSize << 20));
+        }
         chartMaker = new ChartMaker(this.getComponent(), data);
+        app.addExitListener(new Application.ExitListener() {
+            public boolean canExit(final EventObject e) {
+                return true;
+            }
+
+            public void willExit(final EventObject e) {
+                try {
+                    data.clear();
+                } catch (IOException ex) {
+                    //Files are closed by operating system on exit
+                }
+            }
+        });
 
         //Settings of data table
         tmDataSet = new DataSetTableModel(data);
@@ -106,7 +149,16 @@ public class SCCModellerView extends FrameView {
                     setSelectDataSet(false);
                     data.setDataSetIndex(-1);
                 }
-                refreshAllTable();
+                refreshDependenceTable();
+            }
+        });
+        tmDataSet.addTableModelListener(new TableModelListener() {
+            public void tableChanged(final TableModelEvent e) {
+                if (e.getColumn() == DataSetTableModel.COLUMN_SHOW_ON_CHART) {
+                    ChartMaker.refreshSeriesVisible(cpDataCGR.getChart(), data);
+                    ChartMaker.refreshSeriesVisible(cpDataSIF.getChart(), data);
+                    ChartMaker.refreshSeriesVisible(cpDataCCD.getChart(), data);
+                }
             }
         });
         jtDataSet.addMouseListener(new MouseAdapter() {
@@ -139,19 +191,47 @@ public class SCCModellerView extends FrameView {
         cpDataCGR = new ChartPanel(ChartMaker.createChart(data, 0));
         cpDataCGR.setPopupMenu(jpmChart);
         cpDataCGR.setMouseWheelEnabled(true);
+        ChartMaker.installLevelOfDetail(cpDataCGR);
         jcDataCGR.add(cpDataCGR);
 
         cpDataSIF = new ChartPanel(ChartMaker.createChart(data, 1));
         cpDataSIF.setPopupMenu(jpmChart);
         cpDataSIF.setMouseWheelEnabled(true);
+        ChartMaker.installLevelOfDetail(cpDataSIF);
         jcDataSIF.add(cpDataSIF);
 
         cpDataCCD = new ChartPanel(ChartMaker.createChart(data, 2));
         cpDataCCD.setPopupMenu(jpmChart);
         cpDataCCD.setMouseWheelEnabled(true);
+        ChartMaker.installLevelOfDetail(cpDataCCD);
         jcDataCCD.add(cpDataCCD);
 
         jtbMain.add(Box.createHorizontalGlue(), 6);
+
+        //Progress of background calculations
+        progressBar.setVisible(false);
+        taskMonitor = new TaskMonitor(getApplication().getContext());
+        taskMonitor.addPropertyChangeListener(new PropertyChangeListener() {
+            public void propertyChange(final PropertyChangeEvent evt) {
+                String propertyName = evt.getPropertyName();
+                if ("started".equals(propertyName)) {
+                    progressBar.setVisible(true);
+                    progressBar.setIndeterminate(true);
+                } else if ("done".equals(propertyName)) {
+                    progressBar.setVisible(false);
+                    progressBar.setValue(0);
+                    statusMessageLabel.setText("");
+                } else if ("message".equals(propertyName)) {
+                    String text = (String) evt.getNewValue();
+                    statusMessageLabel.setText((text == null) ? "" : text);
+                } else if ("progress".equals(propertyName)) {
+                    progressBar.setIndeterminate(false);
+                    progressBar.setValue((Integer) evt.getNewValue());
+                } else if ("tasks".equals(propertyName)) {
+                    setCalculationRunning(!taskMonitor.getTasks().isEmpty());
+                }
+            }
+        });
     }
 
     /**
@@ -225,6 +305,29 @@ public class SCCModellerView extends FrameView {
         firePropertyChange("selectDataSet", old, isSelectDataSet());
     }
 
+    /**
+     * Running calculation.
+     */
+    private boolean calculationRunning = false;
+
+    /**
+     * Running calculation.
+     * @return running calculation
+     */
+    public boolean isCalculationRunning() {
+        return calculationRunning;
+    }
+
+    /**
+     * Running calculation.
+     * @param b running calculation
+     */
+    public void setCalculationRunning(final boolean b) {
+        boolean old = isCalculationRunning();
+        calculationRunning = b;
+        firePropertyChange("calculationRunning", old, isCalculationRunning());
+    }
+
     /**
      * Message of number parse exeptions.
      * @param n count of exeptions
@@ -235,16 +338,6 @@ public class SCCModellerView extends FrameView {
                 "Внимание", JOptionPane.ERROR_MESSAGE);
     }
 
-    /**
-     * Message of data set count.
-     */
-    private void showDataSetCountMessage() {
-        JOptionPane.showMessageDialog(this.getFrame(),
-                "Максимальное количество одновременно открытых участков - " + data.getDataSetCountMax() +
-                ".\nДля добавления нового участка необходимо удалить один из имеющихся.",
-                "Внимание", JOptionPane.WARNING_MESSAGE);
-    }
-
     /**
      * Message of exeption.
      * @param ex exeption
@@ -286,19 +379,36 @@ public class SCCModellerView extends FrameView {
      * Refresh all table.
      */
     private void refreshAllTable() {
+        refreshDependenceTable();
+        refreshCriticalTime();
+    }
+
+    /**
+     * Refresh tables of dependences of current parameter set.
+     */
+    private void refreshDependenceTable() {
         tmDataCGR.fireTableDataChanged();
         tmDataSIF.fireTableDataChanged();
         tmDataCCD.fireTableDataChanged();
     }
+
+    /**
+     * Refresh of time of reaching critical depth in parameters data table.
+     */
+    private void refreshCriticalTime() {
+        if (!data.getDataSet().isEmpty()) {
+            tmDataSet.fireTableRowsUpdated(0, data.getDataSet().size() - 1);
+        }
+    }
     
     /**
      * Chart repaint.
      */
     @Action(enabledProperty = "existData")
     public void acPlot() {
-        cpDataCGR.setChart(ChartMaker.createChart(data, 0));
-        cpDataSIF.setChart(ChartMaker.createChart(data, 1));
-        cpDataCCD.setChart(ChartMaker.createChart(data, 2));
+        ChartMaker.refreshChart(cpDataCGR.getChart(), data, 0);
+        ChartMaker.refreshChart(cpDataSIF.getChart(), data, 1);
+        ChartMaker.refreshChart(cpDataCCD.getChart(), data, 2);
     }
 
     /**
@@ -339,16 +449,13 @@ public class SCCModellerView extends FrameView {
      */
     @Action
     public void acOpenDataSet() {
-        if (data.getDataSetCount() == data.getDataSetCountMax()) {
-            showDataSetCountMessage();
-            return;
-        }
         JFileChooser chooser = FileChooserFactory.getChooser(3);
         if (chooser.showOpenDialog(this.getFrame()) == JFileChooser.APPROVE_OPTION) {
             File f = chooser.getSelectedFile();
             DataSet sc = new DataSet();
+            boolean restored = false;
             try {
-                sc.loadDataFromFile(f);
+                restored = sc.loadDataFromFile(f, resultCache);
                 data.getDataSet().add(sc);
                 int i = data.getDataSet().size() - 1;
                 tmDataSet.fireTableRowsInserted(i, i);
@@ -367,7 +474,134 @@ public class SCCModellerView extends FrameView {
             }
             refreshAllTable();
             setExistData(true);
+            if (restored) {
+                addToLog("Результаты расчета восстановлены из кэша");
+                acPlot();
+            }
+        }
+    }
+
+    /**
+     * Load model parameters from all files of directory.
+     * Files are loaded in parallel, errors are shown with names of files and numbers of lines.
+     * @return background task of loading or null if directory is not chosen
+     */
+    @Action
+    public Task<ArrayList<DataSet>, Void> acOpenDirectory() {
+        JFileChooser chooser = FileChooserFactory.getChooser(7);
+        if (chooser.showOpenDialog(this.getFrame()) != JFileChooser.APPROVE_OPTION) {
+            return null;
         }
+        return new LoadDirectoryTask(chooser.getSelectedFile());
+    }
+
+    /**
+     * Open store of trajectories of parameter sweep or Monte Carlo calculation
+     * and add parameter sets for chosen records.
+     * Parameters which are not saved in records are taken from base parameter set saved in file.
+     * File stays open, because dependences for CCD are read from it when they are shown,
+     * it is closed when all parameter sets read from it are deleted.
+     */
+    @Action
+    public void acOpenStore() {
+        JFileChooser chooser = FileChooserFactory.getChooser(8);
+        if (chooser.showOpenDialog(this.getFrame()) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File f = chooser.getSelectedFile();
+        MappedResultStore store;
+        try {
+            store = MappedResultStore.open(f);
+        } catch (IOException ex) {
+            showErrorMessage(ex);
+            return;
+        }
+        long n = store.getRecordCount();
+        long[] range = null;
+        if (n > 0) {
+            String s = (String) JOptionPane.showInputDialog(this.getFrame(),
+                    "Количество записей в файле - " + n + "\nНомера добавляемых записей:",
+                    "Открыть траектории", JOptionPane.QUESTION_MESSAGE, null, null,
+                    "1-" + Math.min(n, MAX_STORE_RECORD_COUNT));
+            if (s != null) {
+                range = parseRecordRange(s, n);
+                if (range == null) {
+                    JOptionPane.showMessageDialog(this.getFrame(),
+                            "Неверные номера записей - " + s + "\nЗадайте номера от 1 до " + n
+                            + " в виде \"начало-конец\", не более " + MAX_STORE_RECORD_COUNT + " записей",
+                            "Внимание", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        } else {
+            JOptionPane.showMessageDialog(this.getFrame(), "Файл не содержит записей",
+                    "Внимание", JOptionPane.ERROR_MESSAGE);
+        }
+        ArrayList<DataSet> sets = new ArrayList<DataSet>();
+        if (range != null) {
+            DataSet base = store.getBaseDataSet();
+            String name = f.getName();
+            int k = name.lastIndexOf('.');
+            base.setName((k > 0) ? name.substring(0, k) : name);
+            for (long i = range[0]; i <= range[1]; i++) {
+                //Records are empty if calculation was not finished
+                if (store.getSize(i) > 0) {
+                    sets.add(store.createDataSet(i, base));
+                }
+            }
+        }
+        if (sets.isEmpty()) {
+            try {
+                store.close();
+            } catch (IOException ex) {
+                showErrorMessage(ex);
+            }
+            return;
+        }
+        addToLog("Открыто траекторий: " + sets.size() + " из файла " + f.getAbsolutePath());
+        data.addStore(store);
+        addDataSets(sets);
+        acPlot();
+    }
+
+    /**
+     * Parse range of numbers of records "first-last" or "number".
+     * @param s text
+     * @param count count of records
+     * @return indexes of the first and the last record or null if text is wrong
+     */
+    private static long[] parseRecordRange(final String s, final long count) {
+        String[] parts = s.trim().split("\\s*-\\s*", -1);
+        if (parts.length > 2) {
+            return null;
+        }
+        long[] range = new long[2];
+        try {
+            range[0] = Long.parseLong(parts[0]) - 1;
+            range[1] = Long.parseLong(parts[parts.length - 1]) - 1;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        if ((range[0] < 0) || (range[0] > range[1]) || (range[1] >= count)
+                || (range[1] - range[0] >= MAX_STORE_RECORD_COUNT)) {
+            return null;
+        }
+        return range;
+    }
+
+    /**
+     * Add parameter sets to the end of list and select the last of them.
+     * @param sets parameter sets
+     */
+    private void addDataSets(final List<DataSet> sets) {
+        int first = data.getDataSet().size();
+        data.getDataSet().addAll(sets);
+        int i = data.getDataSet().size() - 1;
+        tmDataSet.fireTableRowsInserted(first, i);
+        int j = jtDataSet.convertRowIndexToView(i);
+        jtDataSet.setRowSelectionInterval(j, j);
+        jtDataSet.scrollRectToVisible(jtDataSet.getCellRect(j, 0, true));
+        refreshAllTable();
+        setExistData(true);
     }
 
     /**
@@ -388,15 +622,40 @@ public class SCCModellerView extends FrameView {
         }
     }
 
+    /**
+     * Export calculated dependences of all parameter sets.
+     * For CSV file dependences are saved to three files with suffixes _cgr, _sif, _ccd,
+     * for binary file all dependences are saved to one file.
+     */
+    @Action(enabledProperty = "existData")
+    public void acExportResults() {
+        JFileChooser chooser = FileChooserFactory.getChooser(6);
+        if (chooser.showSaveDialog(this.getFrame()) == JFileChooser.APPROVE_OPTION) {
+            File f = chooser.getSelectedFile();
+            try {
+                if (f.getName().endsWith(".bin")) {
+                    DataExporter.writeBinary(f, data);
+                    addToLog("Результаты расчета сохранены в файл " + f.getAbsolutePath());
+                } else {
+                    String name = f.getAbsolutePath();
+                    name = name.substring(0, name.length() - ".csv".length());
+                    for (int i = DataSet.DEPENDENCE_CGR; i <= DataSet.DEPENDENCE_CCD; i++) {
+                        File o = new File(name + DataExporter.SUFFIXES[i] + ".csv");
+                        DataExporter.writeCsv(o, data, i);
+                        addToLog("Результаты расчета сохранены в файл " + o.getAbsolutePath());
+                    }
+                }
+            } catch (IOException ex) {
+                showErrorMessage(ex);
+            }
+        }
+    }
+
     /**
      * Add model parameters set.
      */
     @Action
     public void acAddDataSet() {
-        if (data.getDataSetCount() == data.getDataSetCountMax()) {
-            showDataSetCountMessage();
-            return;
-        }
         DlgDataSetEdit d = new DlgDataSetEdit();
         d.setTempObj(d.createTempObj());
         d.setLocationRelativeTo(this.getFrame());
@@ -425,6 +684,13 @@ public class SCCModellerView extends FrameView {
         if (d.isChangeObj()) {
             tmDataSet.fireTableRowsUpdated(i, i);
             jtDataSet.getRowSorter().allRowsChanged();
+            //Recalculation of shown dependences affected by changed parameters
+            DataSet o = data.getDataSet().get(i);
+            for (int j = DataSet.DEPENDENCE_CGR; j <= DataSet.DEPENDENCE_CCD; j++) {
+                if (o.isStale(j) && !o.getData(j).isEmpty()) {
+                    getApplication().getContext().getTaskService().execute(new CalculationTask(o, j));
+                }
+            }
         }
     }
 
@@ -434,7 +700,11 @@ public class SCCModellerView extends FrameView {
     @Action(enabledProperty = "selectDataSet")
     public void acDelDataSet() {
         int i = jtDataSet.convertRowIndexToModel(jtDataSet.getSelectedRow());
-        data.getDataSet().remove(i);
+        try {
+            data.removeDataSet(i);
+        } catch (IOException ex) {
+            showErrorMessage(ex);
+        }
         tmDataSet.fireTableRowsDeleted(i, i);
         setSelectDataSet(false);
         if (data.getDataSet().isEmpty()) {
@@ -447,35 +717,380 @@ public class SCCModellerView extends FrameView {
     
     /**
      * Calculation crack growth rate.
+     * @return background task of calculation
      */
     @Action(enabledProperty = "selectDataSet")
-    public void acCalculateCGR() {
-        int i = jtDataSet.convertRowIndexToModel(jtDataSet.getSelectedRow());
-        data.getDataSet().get(i).calculateCGR();
-        tmDataCGR.fireTableDataChanged();
-        cpDataCGR.setChart(ChartMaker.createChart(data, 0));
+    public Task<DataSeries, Void> acCalculateCGR() {
+        return createCalculationTask(DataSet.DEPENDENCE_CGR);
     }
 
     /**
      * Calculation stress intensity factor.
+     * @return background task of calculation
      */
     @Action(enabledProperty = "selectDataSet")
-    public void acCalculateSIF() {
-        int i = jtDataSet.convertRowIndexToModel(jtDataSet.getSelectedRow());
-        data.getDataSet().get(i).calculateSIF();
-        tmDataSIF.fireTableDataChanged();
-        cpDataSIF.setChart(ChartMaker.createChart(data, 1));
+    public Task<DataSeries, Void> acCalculateSIF() {
+        return createCalculationTask(DataSet.DEPENDENCE_SIF);
     }
 
     /**
      * Calculation corrosion crack depth.
+     * @return background task of calculation
      */
     @Action(enabledProperty = "selectDataSet")
-    public void acCalculateCCD() {
+    public Task<DataSeries, Void> acCalculateCCD() {
+        return createCalculationTask(DataSet.DEPENDENCE_CCD);
+    }
+
+    /**
+     * Calculation of all dependences for all parameter sets.
+     * @return background task of calculation
+     */
+    @Action(enabledProperty = "existData")
+    public Task<Void, Void> acCalculateAll() {
+        return new CalculationAllTask();
+    }
+
+    /**
+     * Cancel all running calculations.
+     */
+    @Action(enabledProperty = "calculationRunning")
+    public void acCancelCalculation() {
+        for (Task<?, ?> task : taskMonitor.getTasks()) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * Background task of calculation for selected parameter set.
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @return background task of calculation
+     */
+    private Task<DataSeries, Void> createCalculationTask(final int dependence) {
         int i = jtDataSet.convertRowIndexToModel(jtDataSet.getSelectedRow());
-        data.getDataSet().get(i).calculateCCD();
-        tmDataCCD.fireTableDataChanged();
-        cpDataCCD.setChart(ChartMaker.createChart(data, 2));
+        return new CalculationTask(data.getDataSet().get(i), dependence);
+    }
+
+    /**
+     * Refresh table and chart of dependence of parameter set.
+     * Table of dependence is refreshed only if parameter set is current,
+     * only row of parameter set is refreshed in parameters data table.
+     * @param o parameter set
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     */
+    private void refreshDependence(final DataSet o, final int dependence) {
+        int i = data.indexOf(o);
+        if (i < 0) {
+            return;
+        }
+        boolean current = i == data.getDataSetIndex();
+        switch (dependence) {
+            case DataSet.DEPENDENCE_CGR:
+                if (current) {
+                    tmDataCGR.fireTableDataChanged();
+                }
+                ChartMaker.refreshChart(cpDataCGR.getChart(), data, DataSet.DEPENDENCE_CGR);
+                break;
+            case DataSet.DEPENDENCE_SIF:
+                if (current) {
+                    tmDataSIF.fireTableDataChanged();
+                }
+                ChartMaker.refreshChart(cpDataSIF.getChart(), data, DataSet.DEPENDENCE_SIF);
+                break;
+            default:
+                if (current) {
+                    tmDataCCD.fireTableDataChanged();
+                }
+                ChartMaker.refreshChart(cpDataCCD.getChart(), data, DataSet.DEPENDENCE_CCD);
+                tmDataSet.fireTableRowsUpdated(i, i);
+                break;
+        }
+    }
+
+    /**
+     * Background task of calculation.
+     * Calculation is made for copy of parameter set,
+     * dependence of parameter set is replaced only after successful completion
+     * and only if parameters were not changed during calculation.
+     */
+    private class CalculationTask extends Task<DataSeries, Void> implements CalculationMonitor {
+
+        /**
+         * Parameter set.
+         */
+        private final DataSet dataSet;
+        /**
+         * Copy of parameter set for calculation.
+         */
+        private final DataSet dataSetCopy;
+        /**
+         * Dependence.
+         */
+        private final int dependence;
+
+        /**
+         * Constructor.
+         * @param aDataSet parameter set
+         * @param aDependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+         */
+        public CalculationTask(final DataSet aDataSet, final int aDependence) {
+            super(SCCModellerApp.getApplication());
+            dataSet = aDataSet;
+            dataSetCopy = aDataSet.copy();
+            dependence = aDependence;
+            setUserCanCancel(true);
+            setMessage("Расчет: " + aDataSet.getName());
+        }
+
+        /**
+         * Calculation.
+         * @return dependence
+         */
+        @Override
+        protected DataSeries doInBackground() {
+            dataSetCopy.calculate(dependence, this, resultCache);
+            return dataSetCopy.getData(dependence);
+        }
+
+        /**
+         * Show progress of calculation.
+         * @param value part of completed calculation from 0 to 1
+         */
+        public void updateProgress(final double value) {
+            setProgress((float) value);
+        }
+
+        /**
+         * Successful completion of calculation.
+         * @param result dependence
+         */
+        @Override
+        protected void succeeded(final DataSeries result) {
+            if (!dataSet.createResultKey(dependence).equals(dataSetCopy.createResultKey(dependence))) {
+                addToLog("Результат расчета отброшен, параметры изменены: " + dataSet.getName());
+                return;
+            }
+            dataSet.setData(dependence, result);
+            refreshDependence(dataSet, dependence);
+        }
+
+        /**
+         * Cancellation of calculation.
+         */
+        @Override
+        protected void cancelled() {
+            addToLog("Расчет прерван: " + dataSet.getName());
+        }
+
+        /**
+         * Failure of calculation.
+         * @param cause exeption
+         */
+        @Override
+        protected void failed(final Throwable cause) {
+            addToLog("Ошибка расчета: " + dataSet.getName() + " - " + cause);
+        }
+    }
+
+    /**
+     * Background task of calculation of all dependences for all parameter sets.
+     * Calculation is made for copies of parameter sets,
+     * dependences are replaced and charts are refreshed once after successful completion.
+     */
+    private class CalculationAllTask extends Task<Void, Void> implements CalculationMonitor {
+
+        /**
+         * List of parameter set.
+         */
+        private final ArrayList<DataSet> dataSet;
+        /**
+         * Copy of list for calculation.
+         */
+        private final DataList dataCopy;
+        /**
+         * Count of results found in cache before calculation.
+         */
+        private final long hitCount;
+        /**
+         * Count of results absent in cache before calculation.
+         */
+        private final long missCount;
+
+        /**
+         * Constructor.
+         */
+        public CalculationAllTask() {
+            super(SCCModellerApp.getApplication());
+            dataSet = new ArrayList<DataSet>(data.getDataSet());
+            dataCopy = data.copy();
+            hitCount = resultCache.getHitCount();
+            missCount = resultCache.getMissCount();
+            setUserCanCancel(true);
+            setMessage("Расчет всех участков");
+        }
+
+        /**
+         * Calculation.
+         * @return null
+         * @throws Exception exception
+         */
+        @Override
+        protected Void doInBackground() throws Exception {
+            dataCopy.calculateAll(this, resultCache);
+            return null;
+        }
+
+        /**
+         * Show progress of calculation.
+         * @param value part of completed calculation from 0 to 1
+         */
+        public void updateProgress(final double value) {
+            setProgress((float) value);
+        }
+
+        /**
+         * Successful completion of calculation.
+         * @param result null
+         */
+        @Override
+        protected void succeeded(final Void result) {
+            for (int i = 0; i < dataSet.size(); i++) {
+                DataSet o = dataSet.get(i);
+                DataSet oCopy = dataCopy.getDataSet().get(i);
+                for (int j = DataSet.DEPENDENCE_CGR; j <= DataSet.DEPENDENCE_CCD; j++) {
+                    //Parameters changed during calculation
+                    if (o.createResultKey(j).equals(oCopy.createResultKey(j))) {
+                        o.setData(j, oCopy.getData(j));
+                    }
+                }
+            }
+            refreshAllTable();
+            acPlot();
+            addToLog("Расчет всех участков выполнен за "
+                    + getExecutionDuration(TimeUnit.MILLISECONDS) + " мс (кэш результатов: найдено "
+                    + (resultCache.getHitCount() - hitCount) + ", рассчитано "
+                    + (resultCache.getMissCount() - missCount) + ")");
+        }
+
+        /**
+         * Cancellation of calculation.
+         */
+        @Override
+        protected void cancelled() {
+            addToLog("Расчет всех участков прерван");
+        }
+
+        /**
+         * Failure of calculation.
+         * @param cause exeption
+         */
+        @Override
+        protected void failed(final Throwable cause) {
+            Throwable o = cause;
+            if ((o instanceof ExecutionException) && (o.getCause() != null)) {
+                o = o.getCause();
+            }
+            addToLog("Ошибка расчета всех участков - " + o);
+        }
+    }
+
+    /**
+     * Background task of loading of all parameter files of directory.
+     * Parameter sets are loaded and restored from cache of results in background,
+     * they are added to list after successful completion.
+     */
+    private class LoadDirectoryTask extends Task<ArrayList<DataSet>, Void> {
+
+        /**
+         * Directory.
+         */
+        private final File directory;
+        /**
+         * Messages of errors with names of files.
+         */
+        private final ArrayList<String> messages;
+        /**
+         * One or more dependences are restored from cache of results.
+         */
+        private boolean restored;
+
+        /**
+         * Constructor.
+         * @param aDirectory directory
+         */
+        public LoadDirectoryTask(final File aDirectory) {
+            super(SCCModellerApp.getApplication());
+            directory = aDirectory;
+            messages = new ArrayList<String>();
+            setUserCanCancel(true);
+            setMessage("Открытие папки " + directory.getName());
+        }
+
+        /**
+         * Loading.
+         * @return parameter sets
+         * @throws Exception exception
+         */
+        @Override
+        protected ArrayList<DataSet> doInBackground() throws Exception {
+            ArrayList<DataSet> sets = ParameterFileParser.loadDirectory(directory,
+                    Runtime.getRuntime().availableProcessors(), messages);
+            for (DataSet o : sets) {
+                restored = o.restoreFromCache(resultCache) || restored;
+            }
+            return sets;
+        }
+
+        /**
+         * Successful completion of loading.
+         * @param result parameter sets
+         */
+        @Override
+        protected void succeeded(final ArrayList<DataSet> result) {
+            addToLog("Открыто файлов с данными: " + result.size() + " из папки " + directory.getAbsolutePath());
+            for (String s : messages) {
+                addToLog(s);
+            }
+            if (result.isEmpty()) {
+                return;
+            }
+            addDataSets(result);
+            int n = 0;
+            for (DataSet o : result) {
+                n = n + o.getParseExceptionCount();
+            }
+            if (n > 0) {
+                showParseExceptionMessage(n);
+            }
+            if (restored) {
+                addToLog("Результаты расчета восстановлены из кэша");
+                acPlot();
+            }
+        }
+
+        /**
+         * Cancellation of loading.
+         */
+        @Override
+        protected void cancelled() {
+            addToLog("Открытие папки " + directory.getAbsolutePath() + " прервано");
+        }
+
+        /**
+         * Failure of loading.
+         * @param cause exeption
+         */
+        @Override
+        protected void failed(final Throwable cause) {
+            Throwable o = cause;
+            if ((o instanceof ExecutionException) && (o.getCause() != null)) {
+                o = o.getCause();
+            }
+            addToLog("Ошибка открытия папки " + directory.getAbsolutePath() + " - " + o);
+            if (o instanceof Exception) {
+                showErrorMessage((Exception) o);
+            }
+        }
     }
 
     /**
@@ -553,7 +1168,10 @@ public class SCCModellerView extends FrameView {
         menuBar = new javax.swing.JMenuBar();
         javax.swing.JMenu jmFile = new javax.swing.JMenu();
         jmiOpenFile = new javax.swing.JMenuItem();
+        jmiOpenDirectory = new javax.swing.JMenuItem();
+        jmiOpenStore = new javax.swing.JMenuItem();
         jmiSaveFile = new javax.swing.JMenuItem();
+        jmiExportResults = new javax.swing.JMenuItem();
         jSeparator10 = new javax.swing.JSeparator();
         jmiAdd = new javax.swing.JMenuItem();
         jmiEdit = new javax.swing.JMenuItem();
@@ -564,6 +1182,8 @@ public class SCCModellerView extends FrameView {
         jmiCalculationCGR = new javax.swing.JMenuItem();
         jmiCalculationSIF = new javax.swing.JMenuItem();
         jmiCalculationCCD = new javax.swing.JMenuItem();
+        jSeparator5 = new javax.swing.JSeparator();
+        jmiCalculationAll = new javax.swing.JMenuItem();
         jmChart = new javax.swing.JMenu();
         jmiChartCGR = new javax.swing.JMenuItem();
         jmiChartSIF = new javax.swing.JMenuItem();
@@ -572,6 +1192,8 @@ public class SCCModellerView extends FrameView {
         javax.swing.JMenuItem jmiAbout = new javax.swing.JMenuItem();
         statusPanel = new javax.swing.JPanel();
         statusMessageLabel = new javax.swing.JLabel();
+        progressBar = new javax.swing.JProgressBar();
+        jbtnCancelCalculation = new javax.swing.JButton();
         jpmChart = new javax.swing.JPopupMenu();
         jMenuItem13 = new javax.swing.JMenuItem();
         jSeparator2 = new javax.swing.JSeparator();
@@ -1116,11 +1738,26 @@ public class SCCModellerView extends FrameView {
         jmiOpenFile.setName("jmiOpenFile"); // NOI18N
         jmFile.add(jmiOpenFile);
 
+        jmiOpenDirectory.setAction(actionMap.get("acOpenDirectory")); // NOI18N
+        jmiOpenDirectory.setToolTipText(resourceMap.getString("jmiOpenDirectory.toolTipText")); // NOI18N
+        jmiOpenDirectory.setName("jmiOpenDirectory"); // NOI18N
+        jmFile.add(jmiOpenDirectory);
+
+        jmiOpenStore.setAction(actionMap.get("acOpenStore")); // NOI18N
+        jmiOpenStore.setToolTipText(resourceMap.getString("jmiOpenStore.toolTipText")); // NOI18N
+        jmiOpenStore.setName("jmiOpenStore"); // NOI18N
+        jmFile.add(jmiOpenStore);
+
         jmiSaveFile.setAction(actionMap.get("acSaveDataSet")); // NOI18N
         jmiSaveFile.setToolTipText(resourceMap.getString("jmiSaveFile.toolTipText")); // NOI18N
         jmiSaveFile.setName("jmiSaveFile"); // NOI18N
         jmFile.add(jmiSaveFile);
 
+        jmiExportResults.setAction(actionMap.get("acExportResults")); // NOI18N
+        jmiExportResults.setToolTipText(resourceMap.getString("jmiExportResults.toolTipText")); // NOI18N
+        jmiExportResults.setName("jmiExportResults"); // NOI18N
+        jmFile.add(jmiExportResults);
+
         jSeparator10.setName("jSeparator10"); // NOI18N
         jmFile.add(jSeparator10);
 
@@ -1171,6 +1808,13 @@ public class SCCModellerView extends FrameView {
         jmiCalculationCCD.setName("jmiCalculationCCD"); // NOI18N
         jmCalculation.add(jmiCalculationCCD);
 
+        jSeparator5.setName("jSeparator5"); // NOI18N
+        jmCalculation.add(jSeparator5);
+
+        jmiCalculationAll.setAction(actionMap.get("acCalculateAll")); // NOI18N
+        jmiCalculationAll.setName("jmiCalculationAll"); // NOI18N
+        jmCalculation.add(jmiCalculationAll);
+
         menuBar.add(jmCalculation);
 
         jmChart.setText(resourceMap.getString("jmChart.text")); // NOI18N
@@ -1210,17 +1854,30 @@ public class SCCModellerView extends FrameView {
         statusMessageLabel.setMinimumSize(new java.awt.Dimension(20, 20));
         statusMessageLabel.setName("statusMessageLabel"); // NOI18N
 
+        progressBar.setName("progressBar"); // NOI18N
+        progressBar.setStringPainted(true);
+
+        jbtnCancelCalculation.setAction(actionMap.get("acCancelCalculation")); // NOI18N
+        jbtnCancelCalculation.setFocusable(false);
+        jbtnCancelCalculation.setName("jbtnCancelCalculation"); // NOI18N
+
         javax.swing.GroupLayout statusPanelLayout = new javax.swing.GroupLayout(statusPanel);
         statusPanel.setLayout(statusPanelLayout);
         statusPanelLayout.setHorizontalGroup(
             statusPanelLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
             .addGroup(statusPanelLayout.createSequentialGroup()
                 .addComponent(statusMessageLabel, javax.swing.GroupLayout.PREFERRED_SIZE, 287, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addContainerGap(485, Short.MAX_VALUE))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, 187, Short.MAX_VALUE)
+                .addComponent(progressBar, javax.swing.GroupLayout.PREFERRED_SIZE, 200, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(jbtnCancelCalculation)
+                .addContainerGap())
         );
         statusPanelLayout.setVerticalGroup(
             statusPanelLayout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
             .addComponent(statusMessageLabel, javax.swing.GroupLayout.DEFAULT_SIZE, 21, Short.MAX_VALUE)
+            .addComponent(progressBar, javax.swing.GroupLayout.DEFAULT_SIZE, 21, Short.MAX_VALUE)
+            .addComponent(jbtnCancelCalculation, javax.swing.GroupLayout.DEFAULT_SIZE, 21, Short.MAX_VALUE)
         );
 
         jpmChart.setName("jpmChart"); // NOI18N
@@ -1264,6 +1921,7 @@ public class SCCModellerView extends FrameView {
     private javax.swing.JSeparator jSeparator10;
     private javax.swing.JSeparator jSeparator2;
     private javax.swing.JSeparator jSeparator4;
+    private javax.swing.JSeparator jSeparator5;
     private javax.swing.JToolBar.Separator jSeparator8;
     private javax.swing.JSplitPane jSplitPane1;
     private javax.swing.JSplitPane jSplitPane2;
@@ -1279,6 +1937,7 @@ public class SCCModellerView extends FrameView {
     private javax.swing.JButton jbtnCalculateCCD;
     private javax.swing.JButton jbtnCalculateCGR;
     private javax.swing.JButton jbtnCalculateSIF;
+    private javax.swing.JButton jbtnCancelCalculation;
     private javax.swing.JButton jbtnDel;
     private javax.swing.JButton jbtnEdit;
     private javax.swing.JButton jbtnOpen;
@@ -1292,6 +1951,7 @@ public class SCCModellerView extends FrameView {
     private javax.swing.JMenu jmCalculation;
     private javax.swing.JMenu jmChart;
     private javax.swing.JMenuItem jmiAdd;
+    private javax.swing.JMenuItem jmiCalculationAll;
     private javax.swing.JMenuItem jmiCalculationCCD;
     private javax.swing.JMenuItem jmiCalculationCGR;
     private javax.swing.JMenuItem jmiCalculationSIF;
@@ -1302,7 +1962,10 @@ public class SCCModellerView extends FrameView {
     private javax.swing.JMenuItem jmiEdit;
     private javax.swing.JMenuItem jmiExit;
     private javax.swing.JMenuItem jmiOpenFile;
+    private javax.swing.JMenuItem jmiOpenDirectory;
+    private javax.swing.JMenuItem jmiOpenStore;
     private javax.swing.JMenuItem jmiSaveFile;
+    private javax.swing.JMenuItem jmiExportResults;
     private javax.swing.JPopupMenu jpmChart;
     private org.jdesktop.swingx.JXTable jtDataCCD;
     private org.jdesktop.swingx.JXTable jtDataCGR;
@@ -1312,6 +1975,7 @@ public class SCCModellerView extends FrameView {
     private javax.swing.JToolBar jtbMain;
     private javax.swing.JPanel mainPanel;
     private javax.swing.JMenuBar menuBar;
+    private javax.swing.JProgressBar progressBar;
     private javax.swing.JLabel statusMessageLabel;
     private javax.swing.JPanel statusPanel;
     // End of variables declaration//GEN-END:variables
@@ -1325,5 +1989,7 @@ public class SCCModellerView extends FrameView {
     private ChartPanel cpDataCGR;
     private ChartPanel cpDataSIF;
     private ChartPanel cpDataCCD;
+    private TaskMonitor taskMonitor;
+    private ResultCache resultCache;
     //CHECKSTYLE:ON
 }
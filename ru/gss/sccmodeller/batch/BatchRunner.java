@@ -0,0 +1,363 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import ru.gss.sccmodeller.data.DataExporter;
+import ru.gss.sccmodeller.data.DataSet;
+import ru.gss.sccmodeller.data.DiskResultCache;
+import ru.gss.sccmodeller.data.ParameterFileParser;
+import ru.gss.sccmodeller.data.ResultCache;
+
+/**
+ * Batch calculation of parameter files without graphical interface.
+ * Files are calculated concurrently, dependences are saved to CSV files by DataExporter,
+ * summary of time of calculation and time of reaching critical depth is printed for every file.
+ * Classes of AWT and Swing are not used, so calculation works on server without display.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public final class BatchRunner {
+
+    /**
+     * Exit code of successful calculation of all files.
+     */
+    public static final int EXIT_OK = 0;
+    /**
+     * Exit code of failure of calculation of one or more files.
+     */
+    public static final int EXIT_FAILED = 1;
+    /**
+     * Exit code of wrong arguments.
+     */
+    public static final int EXIT_USAGE = 2;
+
+    /**
+     * Calculated dependences.
+     */
+    private boolean[] dependences;
+    /**
+     * Directory of result files.
+     */
+    private File outputDirectory;
+    /**
+     * Count of threads.
+     */
+    private int threadCount;
+    /**
+     * Parameter files.
+     */
+    private ArrayList<File> files;
+    /**
+     * Cache of results for parameter files with the same parameters.
+     */
+    private ResultCache resultCache;
+
+    /**
+     * Constructor.
+     */
+    private BatchRunner() {
+        dependences = new boolean[3];
+        outputDirectory = new File(".");
+        threadCount = Runtime.getRuntime().availableProcessors();
+        files = new ArrayList<File>();
+        resultCache = new ResultCache(ResultCache.DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Main method.
+     * @param args arguments of command line
+     */
+    public static void main(final String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Batch calculation.
+     * @param args arguments of command line
+     * @return exit code
+     */
+    public static int run(final String[] args) {
+        BatchRunner runner = new BatchRunner();
+        String error = runner.parseArguments(args);
+        if (error != null) {
+            System.err.println(error);
+            printUsage();
+            return EXIT_USAGE;
+        }
+        return runner.calculate();
+    }
+
+    /**
+     * Print usage.
+     */
+    private static void printUsage() {
+        System.err.println("Использование: java -cp <classpath> ru.gss.sccmodeller.batch.BatchRunner"
+                + " [-cgr] [-sif] [-ccd] [-out <папка>] [-threads <n>] [-cache <папка>] <файл или папка>...");
+        System.err.println("  -cgr, -sif, -ccd  рассчитываемые зависимости (по умолчанию все)");
+        System.err.println("  -out <папка>      папка для файлов результатов (по умолчанию текущая)");
+        System.err.println("  -threads <n>      количество потоков (по умолчанию количество процессоров)");
+        System.err.println("  -cache <папка>    папка для сохранения результатов между запусками");
+        System.err.println("Для папки рассчитываются все файлы *.txt в ней.");
+        System.err.println("Имена файлов параметров без расширения не должны совпадать.");
+    }
+
+    /**
+     * Parse arguments of command line.
+     * @param args arguments of command line
+     * @return message of error or null
+     */
+    private String parseArguments(final String[] args) {
+        int i = 0;
+        while (i < args.length) {
+            String s = args[i];
+            if (s.equals("-cgr")) {
+                dependences[DataSet.DEPENDENCE_CGR] = true;
+            } else if (s.equals("-sif")) {
+                dependences[DataSet.DEPENDENCE_SIF] = true;
+            } else if (s.equals("-ccd")) {
+                dependences[DataSet.DEPENDENCE_CCD] = true;
+            } else if (s.equals("-out")) {
+                i++;
+                if (i == args.length) {
+                    return "Не задана папка для файлов результатов";
+                }
+                outputDirectory = new File(args[i]);
+            } else if (s.equals("-threads")) {
+                i++;
+                if (i == args.length) {
+                    return "Не задано количество потоков";
+                }
+                try {
+                    threadCount = Integer.parseInt(args[i]);
+                } catch (NumberFormatException ex) {
+                    return "Неверное количество потоков - " + args[i];
+                }
+                if (threadCount < 1) {
+                    return "Неверное количество потоков - " + args[i];
+                }
+            } else if (s.equals("-cache")) {
+                i++;
+                if (i == args.length) {
+                    return "Не задана папка для сохранения результатов";
+                }
+                resultCache.setDiskCache(new DiskResultCache(new File(args[i]), DiskResultCache.DEFAULT_SIZE_LIMIT));
+            } else if (s.startsWith("-")) {
+                return "Неизвестный параметр - " + s;
+            } else {
+                File f = new File(s);
+                if (f.isDirectory()) {
+                    try {
+                        files.addAll(ParameterFileParser.listFiles(f));
+                    } catch (IOException ex) {
+                        return ex.getMessage();
+                    }
+                } else if (f.isFile()) {
+                    files.add(f);
+                } else {
+                    return "Файл не найден - " + s;
+                }
+            }
+            i++;
+        }
+        if (files.isEmpty()) {
+            return "Не заданы файлы параметров";
+        }
+        HashMap<String, File> names = new HashMap<String, File>();
+        for (File f : files) {
+            File other = names.put(getOutputName(f).toLowerCase(Locale.US), f);
+            if (other != null) {
+                return "Совпадают имена файлов результатов для файлов " + other + " и " + f;
+            }
+        }
+        if (!dependences[0] && !dependences[1] && !dependences[2]) {
+            Arrays.fill(dependences, true);
+        }
+        if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            return "Невозможно создать папку - " + outputDirectory;
+        }
+        return null;
+    }
+
+    /**
+     * Calculation of all files and print of summary.
+     * @return exit code
+     */
+    private int calculate() {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, files.size()));
+        List<Future<FileResult>> futures = new ArrayList<Future<FileResult>>();
+        for (final File f : files) {
+            futures.add(executor.submit(new Callable<FileResult>() {
+                public FileResult call() {
+                    return calculateFile(f);
+                }
+            }));
+        }
+        executor.shutdown();
+        int failedCount = 0;
+        System.out.println(String.format(Locale.US, "%-40s %10s %10s %10s %10s %10s  %s",
+                "Файл", "Чтение,мс", "Расчет,мс", "Запись,мс", "Точек", "tкр,год", "Результат"));
+        for (int i = 0; i < futures.size(); i++) {
+            FileResult result;
+            try {
+                result = futures.get(i).get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+                return EXIT_FAILED;
+            } catch (ExecutionException ex) {
+                result = new FileResult(files.get(i));
+                result.error = String.valueOf(ex.getCause());
+            }
+            if (result.error != null) {
+                failedCount++;
+            }
+            System.out.println(String.format(Locale.US, "%-40s %10.1f %10.1f %10.1f %10d %10.4f  %s",
+                    result.file.getName(), result.loadTime / 1e6, result.calculationTime / 1e6,
+                    result.writeTime / 1e6, result.pointCount, result.criticalTime,
+                    (result.error == null) ? "OK" : result.error));
+        }
+        System.out.println(String.format(Locale.US, "Файлов: %d, с ошибками: %d, общее время: %.1f мс",
+                files.size(), failedCount, (System.nanoTime() - start) / 1e6));
+        System.out.println(String.format(Locale.US, "Кэш результатов: найдено %d, рассчитано %d",
+                resultCache.getHitCount(), resultCache.getMissCount()));
+        return (failedCount == 0) ? EXIT_OK : EXIT_FAILED;
+    }
+
+    /**
+     * Calculation of file.
+     * @param file parameter file
+     * @return result of calculation
+     */
+    private FileResult calculateFile(final File file) {
+        FileResult result = new FileResult(file);
+        try {
+            long t = System.nanoTime();
+            ParameterFileParser parser = new ParameterFileParser();
+            DataSet o = parser.parse(file);
+            result.loadTime = System.nanoTime() - t;
+            if (parser.getErrorCount() > 0) {
+                result.error = "Количество ошибок при распознавании чисел - " + parser.getErrorCount()
+                        + ", " + parser.getErrors().get(0);
+                return result;
+            }
+            t = System.nanoTime();
+            for (int i = 0; i < dependences.length; i++) {
+                if (dependences[i]) {
+                    o.calculate(i, null, resultCache);
+                    result.pointCount = result.pointCount + o.getData(i).size();
+                }
+            }
+            result.calculationTime = System.nanoTime() - t;
+            result.criticalTime = o.getCriticalTime();
+            t = System.nanoTime();
+            String name = getOutputName(file);
+            for (int i = 0; i < dependences.length; i++) {
+                if (dependences[i]) {
+                    DataExporter.writeCsv(new File(outputDirectory, name + DataExporter.SUFFIXES[i] + ".csv"), o, i);
+                }
+            }
+            result.writeTime = System.nanoTime() - t;
+        } catch (IOException ex) {
+            result.error = ex.toString();
+        } catch (RuntimeException ex) {
+            result.error = ex.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Load base parameter set of parameter sweep, Monte Carlo calculation and ranking of segments.
+     * Without file default parameters are used with default method of CCD calculation,
+     * as in graphical interface and batch calculation of parameter files.
+     * @param file parameter file or null
+     * @param method method of CCD calculation (DataSet.METHOD_*) or -1 to keep method of parameter set
+     * @return base parameter set or null if there are errors of parsing, they are printed
+     * @throws IOException exception
+     */
+    static DataSet loadBase(final File file, final int method) throws IOException {
+        DataSet base = new DataSet();
+        if (file != null) {
+            base.loadDataFromFile(file);
+            if (base.getParseExceptionCount() > 0) {
+                System.err.println("Количество ошибок при распознавании чисел в файле "
+                        + file + " - " + base.getParseExceptionCount());
+                return null;
+            }
+        }
+        if (method >= 0) {
+            base.setCalculationMethod(method);
+        }
+        return base;
+    }
+
+    /**
+     * Name of result files of parameter file without suffix of dependence.
+     * @param file parameter file
+     * @return name of parameter file without extension
+     */
+    private static String getOutputName(final File file) {
+        String name = file.getName();
+        int k = name.lastIndexOf('.');
+        if (k > 0) {
+            name = name.substring(0, k);
+        }
+        return name;
+    }
+
+    /**
+     * Result of calculation of file.
+     */
+    private static class FileResult {
+
+        /**
+         * Parameter file.
+         */
+        private final File file;
+        /**
+         * Time of reading, ns.
+         */
+        private long loadTime;
+        /**
+         * Time of calculation, ns.
+         */
+        private long calculationTime;
+        /**
+         * Time of writing, ns.
+         */
+        private long writeTime;
+        /**
+         * Count of calculated points.
+         */
+        private int pointCount;
+        /**
+         * Time of reaching critical depth, year (NaN if it is not reached or not calculated).
+         */
+        private double criticalTime = Double.NaN;
+        /**
+         * Message of error or null.
+         */
+        private String error;
+
+        /**
+         * Constructor.
+         * @param aFile parameter file
+         */
+        FileResult(final File aFile) {
+            file = aFile;
+        }
+    }
+}
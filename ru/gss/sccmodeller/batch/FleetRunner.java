@@ -0,0 +1,257 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.batch;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Locale;
+import ru.gss.sccmodeller.data.DataSet;
+import ru.gss.sccmodeller.data.RankingResult;
+import ru.gss.sccmodeller.data.RemainingLifeRanking;
+import ru.gss.sccmodeller.data.SegmentImporter;
+import ru.gss.sccmodeller.data.SegmentTable;
+
+/**
+ * Ranking of pipe segments by remaining life without graphical interface.
+ * Parameters of segments are imported from CSV file, other parameters are taken from base parameter file,
+ * time of reaching critical depth is calculated for every segment concurrently.
+ * Segments with the least remaining life are printed, the whole ranking is saved to CSV file.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public final class FleetRunner {
+
+    /**
+     * Header of result file.
+     */
+    private static final String HEADER = "rank,id,t_critical_year,a_final_mm";
+
+    /**
+     * Base parameter file or null for default parameters.
+     */
+    private File baseFile;
+    /**
+     * Result file or null.
+     */
+    private File outputFile;
+    /**
+     * Count of threads.
+     */
+    private int threadCount;
+    /**
+     * Count of printed segments.
+     */
+    private int topCount;
+    /**
+     * File of segments.
+     */
+    private File segmentFile;
+    /**
+     * Method of CCD calculation or -1 for method of base parameter file.
+     */
+    private int method;
+
+    /**
+     * Constructor.
+     */
+    private FleetRunner() {
+        threadCount = Runtime.getRuntime().availableProcessors();
+        topCount = 20;
+        method = -1;
+    }
+
+    /**
+     * Main method.
+     * @param args arguments of command line
+     */
+    public static void main(final String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Ranking of segments.
+     * @param args arguments of command line
+     * @return exit code
+     */
+    public static int run(final String[] args) {
+        FleetRunner runner = new FleetRunner();
+        String error = runner.parseArguments(args);
+        if (error != null) {
+            System.err.println(error);
+            printUsage();
+            return BatchRunner.EXIT_USAGE;
+        }
+        return runner.calculate();
+    }
+
+    /**
+     * Print usage.
+     */
+    private static void printUsage() {
+        System.err.println("Использование: java -cp <classpath> ru.gss.sccmodeller.batch.FleetRunner"
+                + " [-base <файл>] [-method <n>] [-out <файл>] [-threads <n>] [-top <n>] <файл CSV>");
+        System.err.println("  -base <файл>      файл параметров для значений, отсутствующих в CSV");
+        System.err.println("  -method <n>       метод расчета: 0 - Эйлер, 1 - Рунге-Кутта, 2 - по глубине"
+                + " (по умолчанию метод файла параметров, без него 0)");
+        System.err.println("  -out <файл>       файл CSV для сохранения всех участков по порядку");
+        System.err.println("  -threads <n>      количество потоков (по умолчанию количество процессоров)");
+        System.err.println("  -top <n>          количество выводимых участков (по умолчанию 20)");
+        StringBuilder sb = new StringBuilder("Столбцы CSV: " + SegmentImporter.COLUMN_ID);
+        for (String s : SegmentImporter.COLUMNS) {
+            sb.append(", ").append(s);
+        }
+        System.err.println(sb);
+    }
+
+    /**
+     * Parse positive integer argument.
+     * @param s argument
+     * @return value or -1 if argument is wrong
+     */
+    private static int parsePositive(final String s) {
+        try {
+            int n = Integer.parseInt(s);
+            return (n > 0) ? n : -1;
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parse arguments of command line.
+     * @param args arguments of command line
+     * @return message of error or null
+     */
+    private String parseArguments(final String[] args) {
+        int i = 0;
+        while (i < args.length) {
+            String s = args[i];
+            if (s.equals("-base") || s.equals("-method") || s.equals("-out")
+                    || s.equals("-threads") || s.equals("-top")) {
+                i++;
+                if (i == args.length) {
+                    return "Не задано значение параметра " + s;
+                }
+                String v = args[i];
+                if (s.equals("-base")) {
+                    baseFile = new File(v);
+                    if (!baseFile.isFile()) {
+                        return "Файл не найден - " + v;
+                    }
+                } else if (s.equals("-method")) {
+                    try {
+                        method = Integer.parseInt(v);
+                    } catch (NumberFormatException ex) {
+                        return "Неверный метод расчета - " + v;
+                    }
+                    if ((method < DataSet.METHOD_EULER) || (method > DataSet.METHOD_QUADRATURE)) {
+                        return "Неверный метод расчета - " + v;
+                    }
+                } else if (s.equals("-out")) {
+                    outputFile = new File(v);
+                } else if (s.equals("-threads")) {
+                    threadCount = parsePositive(v);
+                    if (threadCount < 1) {
+                        return "Неверное количество потоков - " + v;
+                    }
+                } else {
+                    topCount = parsePositive(v);
+                    if (topCount < 1) {
+                        return "Неверное количество участков - " + v;
+                    }
+                }
+            } else if (s.startsWith("-")) {
+                return "Неизвестный параметр - " + s;
+            } else if (segmentFile != null) {
+                return "Задано больше одного файла CSV";
+            } else {
+                segmentFile = new File(s);
+                if (!segmentFile.isFile()) {
+                    return "Файл не найден - " + s;
+                }
+            }
+            i++;
+        }
+        if (segmentFile == null) {
+            return "Не задан файл CSV";
+        }
+        return null;
+    }
+
+    /**
+     * Import, calculation and print of ranking.
+     * @return exit code
+     */
+    private int calculate() {
+        try {
+            DataSet base = BatchRunner.loadBase(baseFile, method);
+            if (base == null) {
+                return BatchRunner.EXIT_FAILED;
+            }
+            long t = System.nanoTime();
+            SegmentImporter importer = new SegmentImporter();
+            SegmentTable segments = importer.importFile(segmentFile);
+            System.out.println(String.format(Locale.US, "Участков: %d, строк с ошибками: %d, чтение: %.1f мс",
+                    segments.size(), importer.getErrorCount(), (System.nanoTime() - t) / 1e6));
+            for (String s : importer.getErrors()) {
+                System.out.println("  " + s);
+            }
+            t = System.nanoTime();
+            RemainingLifeRanking ranking = new RemainingLifeRanking(base, segments);
+            ranking.setThreadCount(threadCount);
+            RankingResult result = ranking.calculate(null);
+            System.out.println(String.format(Locale.US, "Расчет: %.1f мс", (System.nanoTime() - t) / 1e6));
+            System.out.println(String.format(Locale.US, "%6s %-30s %12s %12s", "Место", "Участок", "tкр,год", "a,мм"));
+            for (int i = 0; i < Math.min(topCount, result.size()); i++) {
+                int k = result.getIndex(i);
+                System.out.println(String.format(Locale.US, "%6d %-30s %12.4f %12.4f",
+                        i + 1, segments.getId(k), result.getCriticalTime(k), result.getFinalDepth(k)));
+            }
+            if (outputFile != null) {
+                writeRanking(outputFile, result);
+                System.out.println("Результаты сохранены в файл " + outputFile.getAbsolutePath());
+            }
+        } catch (IOException ex) {
+            System.err.println(ex);
+            return BatchRunner.EXIT_FAILED;
+        }
+        return BatchRunner.EXIT_OK;
+    }
+
+    /**
+     * Save ranking to CSV file.
+     * @param file file
+     * @param result ranking of segments
+     * @throws IOException exception
+     */
+    private static void writeRanking(final File file, final RankingResult result) throws IOException {
+        BufferedWriter writer = null;
+        try {
+            writer = new BufferedWriter(new FileWriter(file));
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < result.size(); i++) {
+                int k = result.getIndex(i);
+                writer.write(String.valueOf(i + 1));
+                writer.write(',');
+                String id = result.getSegments().getId(k);
+                if ((id.indexOf(',') >= 0) || (id.indexOf('"') >= 0)) {
+                    id = '"' + id.replace("\"", "\"\"") + '"';
+                }
+                writer.write(id);
+                writer.write(',');
+                writer.write(Double.toString(result.getCriticalTime(k)));
+                writer.write(',');
+                writer.write(Double.toString(result.getFinalDepth(k)));
+                writer.newLine();
+            }
+        } finally {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.batch;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+import ru.gss.sccmodeller.data.DataSet;
+import ru.gss.sccmodeller.data.Distribution;
+import ru.gss.sccmodeller.data.MappedResultStore;
+import ru.gss.sccmodeller.data.MonteCarlo;
+import ru.gss.sccmodeller.data.MonteCarloResult;
+import ru.gss.sccmodeller.data.SegmentImporter;
+
+/**
+ * Probabilistic calculation by Monte Carlo method without graphical interface.
+ * Fields of base parameter file are sampled from given distributions,
+ * probability of reaching critical depth is calculated on time grid of base parameter file.
+ * Probability is printed for part of points of time grid, the whole dependence is saved to CSV file,
+ * dependences for CCD of the first samples can be saved to store of trajectories.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public final class MonteCarloRunner {
+
+    /**
+     * Header of result file.
+     */
+    private static final String HEADER = "t_year,probability,failures";
+    /**
+     * Names of types of distributions.
+     */
+    private static final String[] TYPES = {"fixed", "uniform", "normal", "lognormal"};
+    /**
+     * Maximum count of printed points of time grid.
+     */
+    private static final int PRINTED_POINT_COUNT = 20;
+
+    /**
+     * Base parameter file or null for default parameters.
+     */
+    private File baseFile;
+    /**
+     * Result file or null.
+     */
+    private File outputFile;
+    /**
+     * File of store of trajectories or null.
+     */
+    private File storeFile;
+    /**
+     * Count of samples saved to store of trajectories.
+     */
+    private long storeCount;
+    /**
+     * Method of CCD calculation or -1 for method of base parameter file.
+     */
+    private int method;
+    /**
+     * Count of samples.
+     */
+    private long sampleCount;
+    /**
+     * Seed of generator of random numbers.
+     */
+    private long seed;
+    /**
+     * Sampled fields of parameter set.
+     */
+    private ArrayList<Integer> fields;
+    /**
+     * Distributions of sampled fields in units of parameter set.
+     */
+    private ArrayList<Distribution> distributions;
+
+    /**
+     * Constructor.
+     */
+    private MonteCarloRunner() {
+        method = -1;
+        sampleCount = 10000;
+        seed = 1;
+        fields = new ArrayList<Integer>();
+        distributions = new ArrayList<Distribution>();
+    }
+
+    /**
+     * Main method.
+     * @param args arguments of command line
+     */
+    public static void main(final String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Probabilistic calculation.
+     * @param args arguments of command line
+     * @return exit code
+     */
+    public static int run(final String[] args) {
+        MonteCarloRunner runner = new MonteCarloRunner();
+        String error = runner.parseArguments(args);
+        if (error != null) {
+            System.err.println(error);
+            printUsage();
+            return BatchRunner.EXIT_USAGE;
+        }
+        return runner.calculate();
+    }
+
+    /**
+     * Print usage.
+     */
+    private static void printUsage() {
+        System.err.println("Использование: java -cp <classpath> ru.gss.sccmodeller.batch.MonteCarloRunner"
+                + " [-base <файл>] [-method <n>] [-out <файл>] [-store <файл> <n>] [-samples <n>] [-seed <n>]"
+                + " -dist <столбец> <тип> <a> [<b>]...");
+        System.err.println("  -base <файл>      файл параметров для неслучайных значений и сетки по времени");
+        System.err.println("  -method <n>       метод расчета: 0 - Эйлер, 1 - Рунге-Кутта, 2 - по глубине"
+                + " (по умолчанию метод файла параметров, без него 0)");
+        System.err.println("  -out <файл>       файл CSV для сохранения вероятности во всех точках времени");
+        System.err.println("  -store <файл> <n> файл для сохранения траекторий n первых испытаний (*.scct)");
+        System.err.println("  -samples <n>      количество испытаний (по умолчанию 10000)");
+        System.err.println("  -seed <n>         начальное значение генератора случайных чисел (по умолчанию 1)");
+        System.err.println("  -dist ...         распределение параметра: fixed <значение>, uniform <мин> <макс>,"
+                + " normal <среднее> <ско>, lognormal <среднее> <ско>");
+        StringBuilder sb = new StringBuilder("Параметры: " + SegmentImporter.COLUMNS[0]);
+        for (int i = 1; i < SegmentImporter.COLUMNS.length; i++) {
+            sb.append(", ").append(SegmentImporter.COLUMNS[i]);
+        }
+        System.err.println(sb);
+    }
+
+    /**
+     * Parse arguments of command line.
+     * @param args arguments of command line
+     * @return message of error or null
+     */
+    private String parseArguments(final String[] args) {
+        int i = 0;
+        while (i < args.length) {
+            String s = args[i];
+            if (s.equals("-dist")) {
+                if (i + 3 >= args.length) {
+                    return "Не заданы значения параметра " + s;
+                }
+                int field = Arrays.asList(SegmentImporter.COLUMNS).indexOf(args[i + 1]);
+                if (field < 0) {
+                    return "Неизвестный параметр - " + args[i + 1];
+                }
+                if (fields.contains(field)) {
+                    return "Повторное задание параметра - " + args[i + 1];
+                }
+                int type = Arrays.asList(TYPES).indexOf(args[i + 2]);
+                if (type < 0) {
+                    return "Неизвестный тип распределения - " + args[i + 2];
+                }
+                int count = (type == Distribution.TYPE_FIXED) ? 1 : 2;
+                if (i + 2 + count >= args.length) {
+                    return "Не заданы значения параметра " + s;
+                }
+                double[] v = new double[2];
+                for (int j = 0; j < count; j++) {
+                    try {
+                        v[j] = Double.parseDouble(args[i + 3 + j]) * SegmentImporter.FACTORS[field];
+                    } catch (NumberFormatException ex) {
+                        return "Неверное число - " + args[i + 3 + j];
+                    }
+                }
+                try {
+                    distributions.add(new Distribution(type, v[0], v[1]));
+                } catch (IllegalArgumentException ex) {
+                    return ex.getMessage() + " - " + args[i + 1];
+                }
+                fields.add(field);
+                i = i + 2 + count;
+            } else if (s.equals("-store")) {
+                if (i + 2 >= args.length) {
+                    return "Не заданы значения параметра " + s;
+                }
+                storeFile = new File(args[i + 1]);
+                try {
+                    storeCount = Long.parseLong(args[i + 2]);
+                } catch (NumberFormatException ex) {
+                    return "Неверное количество траекторий - " + args[i + 2];
+                }
+                if (storeCount < 1) {
+                    return "Неверное количество траекторий - " + args[i + 2];
+                }
+                i = i + 2;
+            } else if (s.equals("-base") || s.equals("-method") || s.equals("-out")
+                    || s.equals("-samples") || s.equals("-seed")) {
+                i++;
+                if (i == args.length) {
+                    return "Не задано значение параметра " + s;
+                }
+                String v = args[i];
+                if (s.equals("-base")) {
+                    baseFile = new File(v);
+                    if (!baseFile.isFile()) {
+                        return "Файл не найден - " + v;
+                    }
+                } else if (s.equals("-method")) {
+                    try {
+                        method = Integer.parseInt(v);
+                    } catch (NumberFormatException ex) {
+                        return "Неверный метод расчета - " + v;
+                    }
+                    if ((method < DataSet.METHOD_EULER) || (method > DataSet.METHOD_QUADRATURE)) {
+                        return "Неверный метод расчета - " + v;
+                    }
+                } else if (s.equals("-out")) {
+                    outputFile = new File(v);
+                } else if (s.equals("-samples")) {
+                    try {
+                        sampleCount = Long.parseLong(v);
+                    } catch (NumberFormatException ex) {
+                        return "Неверное количество испытаний - " + v;
+                    }
+                    if (sampleCount < 1) {
+                        return "Неверное количество испытаний - " + v;
+                    }
+                } else {
+                    try {
+                        seed = Long.parseLong(v);
+                    } catch (NumberFormatException ex) {
+                        return "Неверное начальное значение генератора - " + v;
+                    }
+                }
+            } else {
+                return "Неизвестный параметр - " + s;
+            }
+            i++;
+        }
+        if (fields.isEmpty()) {
+            return "Не заданы распределения параметров";
+        }
+        return null;
+    }
+
+    /**
+     * Calculation and print of results.
+     * @return exit code
+     */
+    private int calculate() {
+        try {
+            DataSet base = BatchRunner.loadBase(baseFile, method);
+            if (base == null) {
+                return BatchRunner.EXIT_FAILED;
+            }
+            MonteCarlo monteCarlo = new MonteCarlo(base, seed);
+            for (int i = 0; i < fields.size(); i++) {
+                monteCarlo.addDistribution(fields.get(i), distributions.get(i));
+            }
+            long t = System.nanoTime();
+            MonteCarloResult result;
+            if (storeFile != null) {
+                MappedResultStore store = MappedResultStore.create(storeFile, base,
+                        Math.min(storeCount, sampleCount));
+                try {
+                    result = monteCarlo.calculate(sampleCount, null, store);
+                } finally {
+                    store.close();
+                }
+            } else {
+                result = monteCarlo.calculate(sampleCount, null);
+            }
+            int n = result.getPointCount();
+            System.out.println(String.format(Locale.US,
+                    "Испытаний: %d, вероятность достижения критической глубины: %.6f, расчет: %.1f мс",
+                    result.getSampleCount(), (n > 0) ? result.getProbability(n - 1) : 0.0,
+                    (System.nanoTime() - t) / 1e6));
+            System.out.println(String.format(Locale.US, "%12s %12s %12s", "t,год", "Вероятность", "Отказов"));
+            int step = Math.max((n + PRINTED_POINT_COUNT - 1) / PRINTED_POINT_COUNT, 1);
+            for (int i = 0; i < n; i++) {
+                if ((i % step == 0) || (i == n - 1)) {
+                    System.out.println(String.format(Locale.US, "%12.4f %12.6f %12d",
+                            result.getTime(i), result.getProbability(i), result.getFailureCount(i)));
+                }
+            }
+            if (outputFile != null) {
+                writeResult(outputFile, result);
+                System.out.println("Результаты сохранены в файл " + outputFile.getAbsolutePath());
+            }
+            if (storeFile != null) {
+                System.out.println("Траектории сохранены в файл " + storeFile.getAbsolutePath());
+            }
+        } catch (IOException ex) {
+            System.err.println(ex);
+            return BatchRunner.EXIT_FAILED;
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            return BatchRunner.EXIT_FAILED;
+        }
+        return BatchRunner.EXIT_OK;
+    }
+
+    /**
+     * Save probability of reaching critical depth to CSV file.
+     * @param file file
+     * @param result result of calculation
+     * @throws IOException exception
+     */
+    private static void writeResult(final File file, final MonteCarloResult result) throws IOException {
+        BufferedWriter writer = null;
+        try {
+            writer = new BufferedWriter(new FileWriter(file));
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < result.getPointCount(); i++) {
+                writer.write(Double.toString(result.getTime(i)));
+                writer.write(',');
+                writer.write(Double.toString(result.getProbability(i)));
+                writer.write(',');
+                writer.write(Long.toString(result.getFailureCount(i)));
+                writer.newLine();
+            }
+        } finally {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.batch;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+import ru.gss.sccmodeller.data.DataSet;
+import ru.gss.sccmodeller.data.MappedResultStore;
+import ru.gss.sccmodeller.data.ParameterSweep;
+import ru.gss.sccmodeller.data.SegmentImporter;
+import ru.gss.sccmodeller.data.SweepResult;
+
+/**
+ * Parameter sweep without graphical interface.
+ * Fields of base parameter file are varied over uniform ranges of values,
+ * time of reaching critical depth is calculated for all combinations concurrently.
+ * The first combinations are printed, the whole table is saved to CSV file,
+ * dependences for CCD of all combinations can be saved to store of trajectories.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public final class SweepRunner {
+
+    /**
+     * Names of columns of results.
+     */
+    private static final String HEADER = "t_critical_year,a_final_mm";
+
+    /**
+     * Base parameter file or null for default parameters.
+     */
+    private File baseFile;
+    /**
+     * Result file or null.
+     */
+    private File outputFile;
+    /**
+     * File of store of trajectories or null.
+     */
+    private File storeFile;
+    /**
+     * Count of printed combinations.
+     */
+    private int topCount;
+    /**
+     * Method of CCD calculation or -1 for method of base parameter file.
+     */
+    private int method;
+    /**
+     * Varied fields of parameter set.
+     */
+    private ArrayList<Integer> fields;
+    /**
+     * Ranges of varied fields: first value, last value and count of values in units of columns.
+     */
+    private ArrayList<double[]> ranges;
+
+    /**
+     * Constructor.
+     */
+    private SweepRunner() {
+        topCount = 20;
+        method = -1;
+        fields = new ArrayList<Integer>();
+        ranges = new ArrayList<double[]>();
+    }
+
+    /**
+     * Main method.
+     * @param args arguments of command line
+     */
+    public static void main(final String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Parameter sweep.
+     * @param args arguments of command line
+     * @return exit code
+     */
+    public static int run(final String[] args) {
+        SweepRunner runner = new SweepRunner();
+        String error = runner.parseArguments(args);
+        if (error != null) {
+            System.err.println(error);
+            printUsage();
+            return BatchRunner.EXIT_USAGE;
+        }
+        return runner.calculate();
+    }
+
+    /**
+     * Print usage.
+     */
+    private static void printUsage() {
+        System.err.println("Использование: java -cp <classpath> ru.gss.sccmodeller.batch.SweepRunner"
+                + " [-base <файл>] [-method <n>] [-out <файл>] [-store <файл>] [-top <n>]"
+                + " -range <столбец> <начало> <конец> <n>...");
+        System.err.println("  -base <файл>      файл параметров для неизменяемых значений");
+        System.err.println("  -method <n>       метод расчета: 0 - Эйлер, 1 - Рунге-Кутта, 2 - по глубине"
+                + " (по умолчанию метод файла параметров, без него 0)");
+        System.err.println("  -out <файл>       файл CSV для сохранения всех сочетаний значений");
+        System.err.println("  -store <файл>     файл для сохранения траекторий всех сочетаний (*.scct)");
+        System.err.println("  -top <n>          количество выводимых сочетаний (по умолчанию 20)");
+        System.err.println("  -range ...        n равномерных значений параметра от начала до конца");
+        StringBuilder sb = new StringBuilder("Параметры: " + SegmentImporter.COLUMNS[0]);
+        for (int i = 1; i < SegmentImporter.COLUMNS.length; i++) {
+            sb.append(", ").append(SegmentImporter.COLUMNS[i]);
+        }
+        System.err.println(sb);
+    }
+
+    /**
+     * Parse arguments of command line.
+     * @param args arguments of command line
+     * @return message of error or null
+     */
+    private String parseArguments(final String[] args) {
+        int i = 0;
+        while (i < args.length) {
+            String s = args[i];
+            if (s.equals("-range")) {
+                if (i + 4 >= args.length) {
+                    return "Не заданы значения параметра " + s;
+                }
+                int field = Arrays.asList(SegmentImporter.COLUMNS).indexOf(args[i + 1]);
+                if (field < 0) {
+                    return "Неизвестный параметр - " + args[i + 1];
+                }
+                if (fields.contains(field)) {
+                    return "Повторное задание параметра - " + args[i + 1];
+                }
+                double[] range = new double[3];
+                for (int j = 0; j < 3; j++) {
+                    try {
+                        range[j] = Double.parseDouble(args[i + 2 + j]);
+                    } catch (NumberFormatException ex) {
+                        return "Неверное число - " + args[i + 2 + j];
+                    }
+                }
+                if (!(range[0] > 0) || !(range[1] > 0) || Double.isInfinite(range[0])
+                        || Double.isInfinite(range[1])) {
+                    return "Значения параметра " + args[i + 1] + " должны быть положительными";
+                }
+                if ((range[2] < 1) || (range[2] != Math.floor(range[2])) || (range[2] > Integer.MAX_VALUE)) {
+                    return "Неверное количество значений - " + args[i + 4];
+                }
+                fields.add(field);
+                ranges.add(range);
+                i = i + 4;
+            } else if (s.equals("-base") || s.equals("-method") || s.equals("-out")
+                    || s.equals("-store") || s.equals("-top")) {
+                i++;
+                if (i == args.length) {
+                    return "Не задано значение параметра " + s;
+                }
+                String v = args[i];
+                if (s.equals("-base")) {
+                    baseFile = new File(v);
+                    if (!baseFile.isFile()) {
+                        return "Файл не найден - " + v;
+                    }
+                } else if (s.equals("-method")) {
+                    try {
+                        method = Integer.parseInt(v);
+                    } catch (NumberFormatException ex) {
+                        return "Неверный метод расчета - " + v;
+                    }
+                    if ((method < DataSet.METHOD_EULER) || (method > DataSet.METHOD_QUADRATURE)) {
+                        return "Неверный метод расчета - " + v;
+                    }
+                } else if (s.equals("-out")) {
+                    outputFile = new File(v);
+                } else if (s.equals("-store")) {
+                    storeFile = new File(v);
+                } else {
+                    try {
+                        topCount = Integer.parseInt(v);
+                    } catch (NumberFormatException ex) {
+                        return "Неверное количество сочетаний - " + v;
+                    }
+                    if (topCount < 1) {
+                        return "Неверное количество сочетаний - " + v;
+                    }
+                }
+            } else {
+                return "Неизвестный параметр - " + s;
+            }
+            i++;
+        }
+        if (fields.isEmpty()) {
+            return "Не заданы изменяемые параметры";
+        }
+        return null;
+    }
+
+    /**
+     * Calculation and print of results.
+     * @return exit code
+     */
+    private int calculate() {
+        try {
+            DataSet base = BatchRunner.loadBase(baseFile, method);
+            if (base == null) {
+                return BatchRunner.EXIT_FAILED;
+            }
+            ParameterSweep sweep = new ParameterSweep(base);
+            for (int i = 0; i < fields.size(); i++) {
+                double factor = SegmentImporter.FACTORS[fields.get(i)];
+                double[] range = ranges.get(i);
+                sweep.addRange(fields.get(i), range[0] * factor, range[1] * factor, (int) range[2]);
+            }
+            if (sweep.getPointCount() > Integer.MAX_VALUE / fields.size()) {
+                System.err.println("Слишком большое количество сочетаний параметров - " + sweep.getPointCount());
+                return BatchRunner.EXIT_USAGE;
+            }
+            long t = System.nanoTime();
+            SweepResult result;
+            if (storeFile != null) {
+                MappedResultStore store = MappedResultStore.create(storeFile, base, sweep.getPointCount());
+                try {
+                    result = sweep.calculate(null, store);
+                } finally {
+                    store.close();
+                }
+            } else {
+                result = sweep.calculate(null);
+            }
+            int reached = 0;
+            double minTime = Double.NaN;
+            for (int i = 0; i < result.getPointCount(); i++) {
+                double v = result.getCriticalTime(i);
+                if (!Double.isNaN(v)) {
+                    reached++;
+                    minTime = Double.isNaN(minTime) ? v : Math.min(minTime, v);
+                }
+            }
+            System.out.println(String.format(Locale.US,
+                    "Сочетаний: %d, с достижением критической глубины: %d, минимальное tкр: %.4f год,"
+                    + " расчет: %.1f мс",
+                    result.getPointCount(), reached, minTime, (System.nanoTime() - t) / 1e6));
+            StringBuilder sb = new StringBuilder(String.format(Locale.US, "%8s", "N"));
+            for (int j = 0; j < result.getFieldCount(); j++) {
+                sb.append(String.format(Locale.US, " %14s", SegmentImporter.COLUMNS[result.getField(j)]));
+            }
+            sb.append(String.format(Locale.US, " %12s %12s", "tкр,год", "a,мм"));
+            System.out.println(sb);
+            for (int i = 0; i < Math.min(topCount, result.getPointCount()); i++) {
+                sb = new StringBuilder(String.format(Locale.US, "%8d", i + 1));
+                for (int j = 0; j < result.getFieldCount(); j++) {
+                    sb.append(String.format(Locale.US, " %14.6g", getColumnValue(result, i, j)));
+                }
+                sb.append(String.format(Locale.US, " %12.4f %12.4f",
+                        result.getCriticalTime(i), result.getFinalDepth(i)));
+                System.out.println(sb);
+            }
+            if (outputFile != null) {
+                writeResult(outputFile, result);
+                System.out.println("Результаты сохранены в файл " + outputFile.getAbsolutePath());
+            }
+            if (storeFile != null) {
+                System.out.println("Траектории сохранены в файл " + storeFile.getAbsolutePath());
+            }
+        } catch (IOException ex) {
+            System.err.println(ex);
+            return BatchRunner.EXIT_FAILED;
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            return BatchRunner.EXIT_FAILED;
+        }
+        return BatchRunner.EXIT_OK;
+    }
+
+    /**
+     * Value of varied field in units of column.
+     * @param result table of results
+     * @param point index of combination
+     * @param column index of varied field
+     * @return value of field
+     */
+    private static double getColumnValue(final SweepResult result, final int point, final int column) {
+        return result.getParameter(point, column) / SegmentImporter.FACTORS[result.getField(column)];
+    }
+
+    /**
+     * Save table of results to CSV file.
+     * @param file file
+     * @param result table of results
+     * @throws IOException exception
+     */
+    private static void writeResult(final File file, final SweepResult result) throws IOException {
+        BufferedWriter writer = null;
+        try {
+            writer = new BufferedWriter(new FileWriter(file));
+            for (int j = 0; j < result.getFieldCount(); j++) {
+                writer.write(SegmentImporter.COLUMNS[result.getField(j)]);
+                writer.write(',');
+            }
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < result.getPointCount(); i++) {
+                for (int j = 0; j < result.getFieldCount(); j++) {
+                    writer.write(Double.toString(getColumnValue(result, i, j)));
+                    writer.write(',');
+                }
+                writer.write(Double.toString(result.getCriticalTime(i)));
+                writer.write(',');
+                writer.write(Double.toString(result.getFinalDepth(i)));
+                writer.newLine();
+            }
+        } finally {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
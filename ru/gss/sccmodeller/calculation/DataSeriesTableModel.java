@@ -0,0 +1,140 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.calculation;
+
+import java.util.Locale;
+import javax.swing.table.AbstractTableModel;
+import ru.gss.sccmodeller.data.DataList;
+import ru.gss.sccmodeller.data.DataSeries;
+
+/**
+ * Model of data table of dependence of current parameter set.
+ * Values of cells are formatted once when they are shown first time and are kept
+ * until dependence is recalculated or other parameter set is selected.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public abstract class DataSeriesTableModel extends AbstractTableModel {
+
+    /**
+     * Data.
+     */
+    private DataList data;
+    /**
+     * Dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD).
+     */
+    private int dependence;
+    /**
+     * Headers of table columns.
+     */
+    private String[] colNames;
+    /**
+     * Dependence for which values of cells are kept.
+     */
+    private DataSeries cachedSeries;
+    /**
+     * Formatted values of cells by columns, null for cells not shown yet.
+     */
+    private String[][] cache;
+
+    /**
+     * Constructor.
+     * @param aData data
+     * @param aDependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @param aColNames headers of table columns
+     */
+    public DataSeriesTableModel(final DataList aData, final int aDependence, final String[] aColNames) {
+        data = aData;
+        dependence = aDependence;
+        colNames = aColNames;
+    }
+
+    /**
+     * Header of table column.
+     * @param column index of table column
+     * @return header of table column
+     */
+    @Override
+    public String getColumnName(final int column) {
+        return colNames[column];
+    }
+
+    /**
+     * Count of table column.
+     * @return count of table column
+     */
+    public int getColumnCount() {
+        return 2;
+    }
+
+    /**
+     * Dependence of current parameter set.
+     * @return dependence or null if there is no current parameter set
+     */
+    private DataSeries getSeries() {
+        if (data.getDataSetIndex() < 0) {
+            return null;
+        }
+        return data.getDataSet().get(data.getDataSetIndex()).getData(dependence);
+    }
+
+    /**
+     * Count of table row.
+     * @return count of table row
+     */
+    public int getRowCount() {
+        DataSeries o = getSeries();
+        if (o == null) {
+            return 0;
+        } else {
+            return o.size();
+        }
+    }
+
+    /**
+     * Class of table column.
+     * @param columnIndex index of table column
+     * @return class of table column
+     */
+    @Override
+    public Class < ? > getColumnClass(final int columnIndex) {
+        return String.class;
+    }
+
+    /**
+     * Convertation number to string.
+     * @param value number
+     * @return string representation of number
+     */
+    private String convertToString(final double value) {
+        return String.format(Locale.US, "%.2f", value);
+    }
+
+    /**
+     * Value of table cell.
+     * @param rowIndex index of table row
+     * @param columnIndex index of table column
+     * @return value of table cell
+     */
+    public Object getValueAt(final int rowIndex, final int columnIndex) {
+        if ((columnIndex < 0) || (columnIndex > 1)) {
+            return null;
+        }
+        DataSeries o = getSeries();
+        if ((o != cachedSeries) || (cache[0].length != o.size())) {
+            cachedSeries = o;
+            cache = new String[2][o.size()];
+        }
+        String s = cache[columnIndex][rowIndex];
+        if (s == null) {
+            if (columnIndex == 0) {
+                s = convertToString(o.getX(rowIndex));
+            } else {
+                s = convertToString(o.getY(rowIndex));
+            }
+            cache[columnIndex][rowIndex] = s;
+        }
+        return s;
+    }
+}
@@ -10,11 +10,16 @@ import ru.gss.sccmodeller.data.DataSet;
 
 /**
  * Model of parameters data table.
- * @version 1.1.0 20.03.2020
+ * @version 1.1.0 17.10.2026
  * @author Sergey Guskov
  */
 public class DataSetTableModel extends AbstractTableModel {
 
+    /**
+     * Index of table column of showing on charts.
+     */
+    public static final int COLUMN_SHOW_ON_CHART = 4;
+
     /**
      * Data.
      */
@@ -22,7 +27,7 @@ public class DataSetTableModel extends AbstractTableModel {
     /**
      * Headers of table columns.
      */
-    private String[] colNames = {"i0, А/м²", "a0, мм", "σ, МПа"};
+    private String[] colNames = {"i0, А/м²", "a0, мм", "σ, МПа", "tкр, год", "Диаграмма"};
  
     /**
      * Constructor.
@@ -47,7 +52,7 @@ public class DataSetTableModel extends AbstractTableModel {
      * @return count of table column
      */
     public int getColumnCount() {
-        return 3;
+        return 5;
     }
 
     /**
@@ -65,9 +70,37 @@ public class DataSetTableModel extends AbstractTableModel {
      */
     @Override
     public Class < ? > getColumnClass(final int columnIndex) {
+        if (columnIndex == COLUMN_SHOW_ON_CHART) {
+            return Boolean.class;
+        }
         return String.class;
     }
 
+    /**
+     * Editable table cell.
+     * @param rowIndex index of table row
+     * @param columnIndex index of table column
+     * @return only showing on charts is editable
+     */
+    @Override
+    public boolean isCellEditable(final int rowIndex, final int columnIndex) {
+        return columnIndex == COLUMN_SHOW_ON_CHART;
+    }
+
+    /**
+     * Change of value of table cell.
+     * @param aValue value of table cell
+     * @param rowIndex index of table row
+     * @param columnIndex index of table column
+     */
+    @Override
+    public void setValueAt(final Object aValue, final int rowIndex, final int columnIndex) {
+        if (columnIndex == COLUMN_SHOW_ON_CHART) {
+            data.getDataSet().get(rowIndex).setShowOnChart(((Boolean) aValue).booleanValue());
+            fireTableCellUpdated(rowIndex, columnIndex);
+        }
+    }
+
     /**
      * Convertation number to string.
      * @param value number
@@ -80,6 +113,23 @@ public class DataSetTableModel extends AbstractTableModel {
         return String.format(Locale.US, "%.2f", value);
     }
 
+    /**
+     * Time of reaching critical depth as string.
+     * @param o parameter set
+     * @return empty string if dependence for CCD is not calculated,
+     * lower bound if critical depth is not reached till the end of time interval
+     */
+    private String convertCriticalTimeToString(final DataSet o) {
+        if (o.isStale(DataSet.DEPENDENCE_CCD) || o.getDataCCD().isEmpty()) {
+            return "";
+        }
+        double t = o.getCriticalTime();
+        if (Double.isNaN(t)) {
+            return "> " + convertToString(o.convertSecondToYear(o.getTimeEnd()));
+        }
+        return convertToString(t);
+    }
+
     /**
      * Value of table cell.
      * @param rowIndex index of table row
@@ -95,6 +145,10 @@ public class DataSetTableModel extends AbstractTableModel {
                 return convertToString(o.getInitDepth() * 1e3);
             case 2:
                 return convertToString(o.getStress());
+            case 3:
+                return convertCriticalTimeToString(o);
+            case COLUMN_SHOW_ON_CHART:
+                return Boolean.valueOf(o.isShowOnChart());
             default:
                 return null;
         }
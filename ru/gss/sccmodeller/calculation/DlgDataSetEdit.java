@@ -3,15 +3,18 @@
  */
 package ru.gss.sccmodeller.calculation;
 
+import java.util.Locale;
+import javax.swing.DefaultComboBoxModel;
 import javax.swing.text.DefaultFormatterFactory;
 import org.jdesktop.application.Action;
 import ru.gss.sccmodeller.commons.DlgDirEdit;
 import ru.gss.sccmodeller.commons.NoLocaleNumberFormatter;
 import ru.gss.sccmodeller.data.DataSet;
+import ru.gss.sccmodeller.data.TabulatedStressIntensityKernel;
 
 /**
  * Dialog for edit of model parameters.
- * @version 1.1.0 19.03.2020
+ * @version 1.1.0 18.10.2026
  * @author Sergey Guskov
  */
 public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
@@ -37,6 +40,12 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
         jftfStressIFBegin.setFormatterFactory(new DefaultFormatterFactory(new NoLocaleNumberFormatter(2)));
         jftfStressIFEnd.setFormatterFactory(new DefaultFormatterFactory(new NoLocaleNumberFormatter(2)));
         jftfStressIFStep.setFormatterFactory(new DefaultFormatterFactory(new NoLocaleNumberFormatter(4)));
+        jftfTolerance.setFormatterFactory(new DefaultFormatterFactory(new NoLocaleNumberFormatter(8)));
+        jcbCalculationMethod.setModel(new DefaultComboBoxModel<String>(new String[] {
+            "Метод Эйлера", "Метод Рунге-Кутты с адаптивным шагом", "Интегрирование по глубине трещины"}));
+        jcbSifModel.setModel(new DefaultComboBoxModel<String>(new String[] {"Точная формула",
+            String.format(Locale.US, "Интерполяция сплайном (погрешность до %.1e)",
+                TabulatedStressIntensityKernel.getMaxRelativeError())}));
     }
 
     /**
@@ -63,6 +72,9 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
         jftfStressIFBegin.setValue(getTempObj().getStressIFBegin());
         jftfStressIFEnd.setValue(getTempObj().getStressIFEnd());
         jftfStressIFStep.setValue(getTempObj().getStressIFStep());
+        jcbCalculationMethod.setSelectedIndex(getTempObj().getCalculationMethod());
+        jftfTolerance.setValue(getTempObj().getTolerance());
+        jcbSifModel.setSelectedIndex(getTempObj().getSifModel());
         getRootPane().setDefaultButton(jbtnOk);
     }
 
@@ -133,6 +145,15 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
         if (checkFormattedTextFieldNullNoSupposed(jftfStressIFStep, 1e-5, 1e4)) {
             return;
         }
+        if (checkComboBox(jcbCalculationMethod)) {
+            return;
+        }
+        if (checkFormattedTextFieldNullNoSupposed(jftfTolerance, DataSet.TOLERANCE_MIN, DataSet.TOLERANCE_MAX)) {
+            return;
+        }
+        if (checkComboBox(jcbSifModel)) {
+            return;
+        }
         getTempObj().setName(jtfName.getText().trim());
         getTempObj().setCurrentDensity(getDoubleFromFormattedTextField(jftfCurrentDensity));
         getTempObj().setYieldStrength(getDoubleFromFormattedTextField(jftfYieldStrength));
@@ -149,6 +170,9 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
         getTempObj().setStressIFBegin(getDoubleFromFormattedTextField(jftfStressIFBegin));
         getTempObj().setStressIFEnd(getDoubleFromFormattedTextField(jftfStressIFEnd));
         getTempObj().setStressIFStep(getDoubleFromFormattedTextField(jftfStressIFStep));
+        getTempObj().setCalculationMethod(jcbCalculationMethod.getSelectedIndex());
+        getTempObj().setTolerance(getDoubleFromFormattedTextField(jftfTolerance));
+        getTempObj().setSifModel(jcbSifModel.getSelectedIndex());
         setChangeObj(true);
     }
 
@@ -204,6 +228,13 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
         jftfStressIFBegin = new javax.swing.JFormattedTextField();
         jftfStressIFEnd = new javax.swing.JFormattedTextField();
         jftfStressIFStep = new javax.swing.JFormattedTextField();
+        jPanel8 = new javax.swing.JPanel();
+        jlbCalculationMethod = new javax.swing.JLabel();
+        jcbCalculationMethod = new javax.swing.JComboBox<String>();
+        jlbTolerance = new javax.swing.JLabel();
+        jftfTolerance = new javax.swing.JFormattedTextField();
+        jlbSifModel = new javax.swing.JLabel();
+        jcbSifModel = new javax.swing.JComboBox<String>();
 
         setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
         org.jdesktop.application.ResourceMap resourceMap = org.jdesktop.application.Application.getInstance(ru.gss.sccmodeller.SCCModellerApp.class).getContext().getResourceMap(DlgDataSetEdit.class);
@@ -521,6 +552,60 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
 
         jTabbedPane1.addTab(resourceMap.getString("jPanel7.TabConstraints.tabTitle"), jPanel7); // NOI18N
 
+        jPanel8.setName("jPanel8"); // NOI18N
+
+        jlbCalculationMethod.setText(resourceMap.getString("jlbCalculationMethod.text")); // NOI18N
+        jlbCalculationMethod.setName("jlbCalculationMethod"); // NOI18N
+
+        jcbCalculationMethod.setName("jcbCalculationMethod"); // NOI18N
+
+        jlbTolerance.setText(resourceMap.getString("jlbTolerance.text")); // NOI18N
+        jlbTolerance.setName("jlbTolerance"); // NOI18N
+
+        jftfTolerance.setName("jftfTolerance"); // NOI18N
+
+        jlbSifModel.setText(resourceMap.getString("jlbSifModel.text")); // NOI18N
+        jlbSifModel.setName("jlbSifModel"); // NOI18N
+
+        jcbSifModel.setName("jcbSifModel"); // NOI18N
+
+        javax.swing.GroupLayout jPanel8Layout = new javax.swing.GroupLayout(jPanel8);
+        jPanel8.setLayout(jPanel8Layout);
+        jPanel8Layout.setHorizontalGroup(
+            jPanel8Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(jPanel8Layout.createSequentialGroup()
+                .addContainerGap()
+                .addGroup(jPanel8Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addComponent(jlbCalculationMethod)
+                    .addComponent(jlbTolerance)
+                    .addComponent(jlbSifModel))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, 40, Short.MAX_VALUE)
+                .addGroup(jPanel8Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING, false)
+                    .addComponent(jcbCalculationMethod, 0, 230, Short.MAX_VALUE)
+                    .addComponent(jftfTolerance, javax.swing.GroupLayout.PREFERRED_SIZE, 92, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(jcbSifModel, 0, 230, Short.MAX_VALUE))
+                .addGap(19, 19, 19))
+        );
+        jPanel8Layout.setVerticalGroup(
+            jPanel8Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(jPanel8Layout.createSequentialGroup()
+                .addContainerGap()
+                .addGroup(jPanel8Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(jlbCalculationMethod)
+                    .addComponent(jcbCalculationMethod, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addGroup(jPanel8Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(jlbTolerance)
+                    .addComponent(jftfTolerance, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addGroup(jPanel8Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
+                    .addComponent(jlbSifModel)
+                    .addComponent(jcbSifModel, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
+                .addContainerGap(13, Short.MAX_VALUE))
+        );
+
+        jTabbedPane1.addTab(resourceMap.getString("jPanel8.TabConstraints.tabTitle"), jPanel8); // NOI18N
+
         javax.swing.GroupLayout jPanel6Layout = new javax.swing.GroupLayout(jPanel6);
         jPanel6.setLayout(jPanel6Layout);
         jPanel6Layout.setHorizontalGroup(
@@ -582,9 +667,12 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
     private javax.swing.JPanel jPanel5;
     private javax.swing.JPanel jPanel6;
     private javax.swing.JPanel jPanel7;
+    private javax.swing.JPanel jPanel8;
     private javax.swing.JTabbedPane jTabbedPane1;
     private javax.swing.JButton jbtnCancel;
     private javax.swing.JButton jbtnOk;
+    private javax.swing.JComboBox<String> jcbCalculationMethod;
+    private javax.swing.JComboBox<String> jcbSifModel;
     private javax.swing.JFormattedTextField jftfCurrentDensity;
     private javax.swing.JFormattedTextField jftfDepthBegin;
     private javax.swing.JFormattedTextField jftfDepthEnd;
@@ -595,6 +683,7 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
     private javax.swing.JFormattedTextField jftfStressIFEnd;
     private javax.swing.JFormattedTextField jftfStressIFStep;
     private javax.swing.JFormattedTextField jftfThresholdSIF;
+    private javax.swing.JFormattedTextField jftfTolerance;
     private javax.swing.JFormattedTextField jftfTimeBegin;
     private javax.swing.JFormattedTextField jftfTimeEnd;
     private javax.swing.JFormattedTextField jftfTimeStep;
@@ -604,6 +693,8 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
     private javax.swing.JLabel jlbDepthBegin;
     private javax.swing.JLabel jlbDepthEnd;
     private javax.swing.JLabel jlbDepthStep;
+    private javax.swing.JLabel jlbCalculationMethod;
+    private javax.swing.JLabel jlbSifModel;
     private javax.swing.JLabel jlbInitDepth;
     private javax.swing.JLabel jlbStress;
     private javax.swing.JLabel jlbStressIFBegin;
@@ -613,6 +704,7 @@ public class DlgDataSetEdit extends DlgDirEdit < DataSet > {
     private javax.swing.JLabel jlbTimeBegin;
     private javax.swing.JLabel jlbTimeEnd;
     private javax.swing.JLabel jlbTimeStep;
+    private javax.swing.JLabel jlbTolerance;
     private javax.swing.JLabel jlbWallThickness;
     private javax.swing.JLabel jlbYieldStrength;
     private javax.swing.JTextField jtfFileName;
@@ -6,31 +6,46 @@ package ru.gss.sccmodeller.chart;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Font;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.font.TextAttribute;
 import java.text.AttributedString;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
+import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
-import org.jfree.chart.LegendItemSource;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.renderer.xy.XYStepRenderer;
 import org.jfree.data.xy.XYDataset;
-import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
 import ru.gss.sccmodeller.data.DataList;
+import ru.gss.sccmodeller.data.DataSeries;
+import ru.gss.sccmodeller.data.DataSeriesCollection;
 
 /**
  * Chart.
- * @version 1.1.0 16.03.2020
+ * @version 1.1.0 17.10.2026
  * @author Sergey Guskov
  */
 public class ChartMaker {
 
+    /**
+     * Colors of first series.
+     */
+    private static final Color[] SERIES_COLORS = {Color.BLUE, Color.RED, new Color(0, 170, 0),
+        Color.BLACK, Color.DARK_GRAY, Color.GRAY, Color.LIGHT_GRAY, Color.MAGENTA, Color.ORANGE};
+    /**
+     * Golden angle for generation of hue of colors, part of circle.
+     */
+    private static final double GOLDEN_ANGLE = 0.381966;
+
     /**
      * Parent frame.
      */
@@ -82,6 +97,7 @@ public class ChartMaker {
 
     /**
      * Create plot.
+     * Points of calculated dependences are reduced to width of chart.
      * @param dataset data
      * @param labelX name of axis x
      * @param labelY name of axis y
@@ -110,25 +126,20 @@ public class ChartMaker {
             renderer = new XYStepRenderer();
         } else {
             renderer = new XYLineAndShapeRenderer();
-            for (int i = 0; i < 10; i++) {
-                ((XYLineAndShapeRenderer) renderer).setSeriesShapesVisible(i, false);
-            }
+            ((XYLineAndShapeRenderer) renderer).setBaseShapesVisible(false);
         }
         //Colors
-        renderer.setSeriesPaint(0, Color.BLUE);
-        renderer.setSeriesPaint(1, Color.RED);
-        renderer.setSeriesPaint(2, new Color(0, 170, 0));
-        renderer.setSeriesPaint(3, Color.BLACK);
-        renderer.setSeriesPaint(4, Color.DARK_GRAY);
-        renderer.setSeriesPaint(5, Color.GRAY);
-        renderer.setSeriesPaint(6, Color.LIGHT_GRAY);
-        renderer.setSeriesPaint(7, Color.MAGENTA);
-        renderer.setSeriesPaint(8, Color.ORANGE);   
+        setSeriesColors(renderer, dataset.getSeriesCount());
         //Tooltips
-        for (int i = 0; i < 10; i++) {
-            renderer.setSeriesToolTipGenerator(i, new StandardXYToolTipGenerator("{1}; {2}", NumberFormat.getNumberInstance(), NumberFormat.getNumberInstance()));
+        renderer.setBaseToolTipGenerator(new StandardXYToolTipGenerator("{1}; {2}", NumberFormat.getNumberInstance(), NumberFormat.getNumberInstance()));
+        XYPlot plot;
+        if (dataset instanceof DataSeriesCollection) {
+            LevelOfDetailDataset lod = new LevelOfDetailDataset((DataSeriesCollection) dataset);
+            plot = new XYPlot(lod, xAxis, yAxis, renderer);
+            xAxis.addChangeListener(lod);
+        } else {
+            plot = new XYPlot(dataset, xAxis, yAxis, renderer);
         }
-        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, renderer);
         plot.setBackgroundPaint(Color.white);
         plot.setDomainGridlinePaint(Color.darkGray);
         plot.setRangeGridlinePaint(Color.darkGray);
@@ -137,6 +148,76 @@ public class ChartMaker {
         return plot;
     }
 
+    /**
+     * Color of series.
+     * First colors are fixed, next colors have hues distributed by golden angle
+     * and alternate saturation and brightness, so neighbouring series are distinct.
+     * @param series index of series
+     * @return color
+     */
+    public static Color getSeriesColor(final int series) {
+        if (series < SERIES_COLORS.length) {
+            return SERIES_COLORS[series];
+        }
+        int k = series - SERIES_COLORS.length;
+        float hue = (float) ((k * GOLDEN_ANGLE) % 1.0);
+        float saturation = 0.95f - 0.25f * (k % 3) / 2;
+        float brightness = 0.85f - 0.3f * ((k / 3) % 2);
+        return Color.getHSBColor(hue, saturation, brightness);
+    }
+
+    /**
+     * Set colors of series which have no color.
+     * @param renderer renderer
+     * @param count count of series
+     */
+    private static void setSeriesColors(final XYItemRenderer renderer, final int count) {
+        for (int i = 0; i < count; i++) {
+            if (renderer.getSeriesPaint(i) == null) {
+                ((AbstractRenderer) renderer).setSeriesPaint(i, getSeriesColor(i), false);
+            }
+        }
+    }
+
+    /**
+     * Show on chart only series of parameter sets marked for showing on charts.
+     * @param renderer renderer
+     * @param data data
+     */
+    private static void setSeriesVisible(final XYItemRenderer renderer, final DataList data) {
+        boolean[] visible = data.getShowOnChart();
+        boolean changed = false;
+        for (int i = 0; i < visible.length; i++) {
+            if (renderer.isSeriesVisible(i) != visible[i]) {
+                renderer.setSeriesVisible(i, Boolean.valueOf(visible[i]), false);
+                changed = true;
+            }
+        }
+        if (changed) {
+            //Only one repaint for all changed series
+            ((AbstractRenderer) renderer).notifyListeners(new RendererChangeEvent(renderer, true));
+        }
+    }
+
+    /**
+     * Reduce points of chart to width of chart panel when panel is resized.
+     * @param panel chart panel
+     */
+    public static void installLevelOfDetail(final ChartPanel panel) {
+        panel.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(final ComponentEvent e) {
+                JFreeChart chart = panel.getChart();
+                if ((chart != null) && (chart.getPlot() instanceof XYPlot)) {
+                    XYDataset dataset = ((XYPlot) chart.getPlot()).getDataset();
+                    if (dataset instanceof LevelOfDetailDataset) {
+                        ((LevelOfDetailDataset) dataset).setWidth(panel.getWidth());
+                    }
+                }
+            }
+        });
+    }
+
      /**
      * Create chart.
      * @param data data
@@ -150,17 +231,59 @@ public class ChartMaker {
         chart.setBackgroundPaint(Color.white);
         chart.getLegend().setPosition(RectangleEdge.RIGHT);
         chart.getLegend().setBorder(0, 0, 0, 0);
-        JFreeChart chartTemp = createChart(data.createDatasetCCD(), null, null, true);
-        LegendItemSource[] lis = chartTemp.getLegend().getSources();
-        chart.getLegend().setSources(lis);
-        if (data.isShowLegend()) {
+        setSeriesVisible(xyplot.getRenderer(), data);
+        showLegend(chart, data.isShowLegend());
+        return chart;
+    }
+
+    /**
+     * Refresh chart created by createChart(DataList, int).
+     * Dependences of dataset are replaced, chart is repainted only if some dependence
+     * or showing of parameter set on charts is changed. Axes are returned to automatic range.
+     * @param chart chart
+     * @param data data
+     * @param index index of chart
+     */
+    public static void refreshChart(final JFreeChart chart, final DataList data, final int index) {
+        XYPlot plot = chart.getXYPlot();
+        DataSeries[] series = data.getSeries(index);
+        setSeriesColors(plot.getRenderer(), series.length);
+        setSeriesVisible(plot.getRenderer(), data);
+        ((LevelOfDetailDataset) plot.getDataset()).getSource().setSeries(series);
+        if (!plot.getDomainAxis().isAutoRange()) {
+            plot.getDomainAxis().setAutoRange(true);
+        }
+        if (!plot.getRangeAxis().isAutoRange()) {
+            plot.getRangeAxis().setAutoRange(true);
+        }
+        if (chart.getLegend().isVisible() != data.isShowLegend()) {
+            showLegend(chart, data.isShowLegend());
+        }
+    }
+
+    /**
+     * Refresh showing of series of parameter sets on chart created by createChart(DataList, int).
+     * Range of axes is not changed.
+     * @param chart chart
+     * @param data data
+     */
+    public static void refreshSeriesVisible(final JFreeChart chart, final DataList data) {
+        setSeriesVisible(chart.getXYPlot().getRenderer(), data);
+    }
+
+    /**
+     * Show or hide legend of chart.
+     * @param chart chart
+     * @param isShowLegend show legend
+     */
+    private static void showLegend(final JFreeChart chart, final boolean isShowLegend) {
+        if (isShowLegend) {
             chart.getLegend().setVisible(true);
             chart.setPadding(new RectangleInsets(10, 0, 0, 5));
         } else {
             chart.getLegend().setVisible(false);
             chart.setPadding(new RectangleInsets(10, 0, 0, 38));
         }
-        return chart;
     }
 
     /**
@@ -203,7 +326,7 @@ public class ChartMaker {
      * @return new chart dialog
      */
     private DlgChart createOrRefresh(final DlgChart currentDialog,
-            final XYSeriesCollection dataset, final String dTitle,
+            final XYDataset dataset, final String dTitle,
             final String xLabel, final String yLabel, final boolean isStepPlot,
             final boolean isShowLegend) {
         DlgChart newDialog;
@@ -214,6 +337,7 @@ public class ChartMaker {
             newDialog = currentDialog;
             newDialog.refresh(dataset, isStepPlot);
         }     
+        setSeriesVisible(newDialog.getChart().getXYPlot().getRenderer(), data);
         if (isShowLegend) {
             newDialog.getChart().getLegend().setVisible(true);
             newDialog.getChart().setPadding(new RectangleInsets(0, 0, 0, 5));
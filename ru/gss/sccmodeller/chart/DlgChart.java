@@ -17,7 +17,7 @@ import ru.gss.sccmodeller.commons.FileChooserFactory;
 
 /**
  * Chart dialog.
- * @version 1.1.0 12.03.2020
+ * @version 1.1.0 17.10.2026
  * @author Sergey Guskov
  */
 public class DlgChart extends DlgParent {
@@ -62,6 +62,7 @@ public class DlgChart extends DlgParent {
         chart = ChartMaker.createChart(dataset, chartLabelX, chartLabelY, false);
         chartPanel = new ChartPanel(chart);
         chartPanel.setMouseWheelEnabled(true);
+        ChartMaker.installLevelOfDetail(chartPanel);
         jpChart.add(chartPanel);
         chartPanel.setPopupMenu(jpmChart);
     }
@@ -84,6 +85,7 @@ public class DlgChart extends DlgParent {
         chart = ChartMaker.createChart(dataset, chartLabelX, chartLabelY, isStepPlot);
         chartPanel = new ChartPanel(chart);
         chartPanel.setMouseWheelEnabled(true);
+        ChartMaker.installLevelOfDetail(chartPanel);
         jpChart.add(chartPanel);
         chartPanel.setPopupMenu(jpmChart);
     }
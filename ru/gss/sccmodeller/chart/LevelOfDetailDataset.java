@@ -0,0 +1,399 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.chart;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.AxisChangeEvent;
+import org.jfree.chart.event.AxisChangeListener;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.AbstractXYDataset;
+import ru.gss.sccmodeller.data.DataSeries;
+import ru.gss.sccmodeller.data.DataSeriesCollection;
+
+/**
+ * Dataset of chart with reduced count of points for width of chart.
+ * Visible range of axis x is divided into columns of one pixel, first, last, minimum and maximum points
+ * of every column are left, so line of chart is drawn the same as for all points.
+ * Points are selected again when range of axis x or width of chart is changed,
+ * so zoomed chart is exact. Values x of dependences must increase.
+ * Bounds of values are bounds of all points of source dataset.
+ * When dependences of source dataset are replaced, points are selected again only for changed dependences.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class LevelOfDetailDataset extends AbstractXYDataset
+        implements DomainInfo, RangeInfo, AxisChangeListener, DatasetChangeListener {
+
+    /**
+     * Default width of chart, pixel.
+     */
+    public static final int DEFAULT_WIDTH = 1920;
+    /**
+     * Count of points in column of pixel.
+     */
+    private static final int POINTS_PER_COLUMN = 4;
+
+    /**
+     * Source dataset.
+     */
+    private final DataSeriesCollection source;
+    /**
+     * Dependences of source dataset for which points are selected.
+     */
+    private DataSeries[] selected;
+    /**
+     * Width of chart, pixel.
+     */
+    private int width;
+    /**
+     * Minimum of visible range of axis x or NaN for all points.
+     */
+    private double lower;
+    /**
+     * Maximum of visible range of axis x or NaN for all points.
+     */
+    private double upper;
+    /**
+     * Indexes of selected points of series or null if all points of range are selected.
+     */
+    private int[][] indexes;
+    /**
+     * Index of first point of series.
+     */
+    private int[] first;
+    /**
+     * Count of selected points of series.
+     */
+    private int[] count;
+
+    /**
+     * Constructor.
+     * @param aSource source dataset
+     */
+    public LevelOfDetailDataset(final DataSeriesCollection aSource) {
+        source = aSource;
+        width = DEFAULT_WIDTH;
+        lower = Double.NaN;
+        upper = Double.NaN;
+        select();
+        aSource.addChangeListener(this);
+    }
+
+    /**
+     * Source dataset.
+     * @return source dataset
+     */
+    public DataSeriesCollection getSource() {
+        return source;
+    }
+
+    /**
+     * Width of chart.
+     * @param aWidth width of chart, pixel
+     */
+    public void setWidth(final int aWidth) {
+        if ((aWidth > 0) && (aWidth != width)) {
+            width = aWidth;
+            select();
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Visible range of axis x.
+     * @param aLower minimum of range
+     * @param aUpper maximum of range
+     */
+    public void setDomainRange(final double aLower, final double aUpper) {
+        if ((Double.compare(aLower, lower) != 0) || (Double.compare(aUpper, upper) != 0)) {
+            lower = aLower;
+            upper = aUpper;
+            select();
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Change of range of axis x.
+     * @param event event
+     */
+    public void axisChanged(final AxisChangeEvent event) {
+        ValueAxis axis = (ValueAxis) event.getAxis();
+        setDomainRange(axis.getLowerBound(), axis.getUpperBound());
+    }
+
+    /**
+     * Change of source dataset.
+     * @param event event
+     */
+    public void datasetChanged(final DatasetChangeEvent event) {
+        if (source.getSeriesCount() != selected.length) {
+            select();
+        } else {
+            for (int i = 0; i < selected.length; i++) {
+                if (source.getSeries(i) != selected[i]) {
+                    select(i);
+                }
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Selection of points of all series.
+     */
+    private void select() {
+        int n = source.getSeriesCount();
+        selected = new DataSeries[n];
+        indexes = new int[n][];
+        first = new int[n];
+        count = new int[n];
+        for (int i = 0; i < n; i++) {
+            select(i);
+        }
+    }
+
+    /**
+     * Selection of points of series.
+     * @param series index of series
+     */
+    private void select(final int series) {
+        DataSeries s = source.getSeries(series);
+        selected[series] = s;
+        int from = 0;
+        int to = s.size();
+        double x0 = lower;
+        double x1 = upper;
+        if (!Double.isNaN(x0) && !Double.isNaN(x1) && (x1 > x0)) {
+            //One point outside of range on every side for lines to the border
+            from = Math.max(findFirstGreater(s, x0) - 1, 0);
+            to = Math.min(findFirstGreater(s, x1) + 1, s.size());
+        } else if (to > 0) {
+            x0 = s.getX(0);
+            x1 = s.getX(to - 1);
+        }
+        first[series] = from;
+        count[series] = Math.max(to - from, 0);
+        if ((count[series] <= POINTS_PER_COLUMN * width) || !(x1 > x0)) {
+            indexes[series] = null;
+            return;
+        }
+        int[] o = new int[POINTS_PER_COLUMN * (width + 2)];
+        int k = 0;
+        double scale = width / (x1 - x0);
+        int i = from;
+        while (i < to) {
+            int column = getColumn(s.getX(i), x0, scale);
+            int iFirst = i;
+            int iMin = i;
+            int iMax = i;
+            i++;
+            while ((i < to) && (getColumn(s.getX(i), x0, scale) == column)) {
+                if (s.getY(i) < s.getY(iMin)) {
+                    iMin = i;
+                }
+                if (s.getY(i) > s.getY(iMax)) {
+                    iMax = i;
+                }
+                i++;
+            }
+            int iLast = i - 1;
+            //Points of column in order of increase of x
+            o[k++] = iFirst;
+            int a = Math.min(iMin, iMax);
+            int b = Math.max(iMin, iMax);
+            if (a != iFirst) {
+                o[k++] = a;
+            }
+            if ((b != a) && (b != iLast)) {
+                o[k++] = b;
+            }
+            if (iLast != iFirst) {
+                o[k++] = iLast;
+            }
+        }
+        indexes[series] = o;
+        count[series] = k;
+    }
+
+    /**
+     * Column of pixel for value x, points outside of range are in columns -1 and width.
+     * @param x value x
+     * @param x0 minimum of range
+     * @param scale count of columns in unit of x
+     * @return column
+     */
+    private int getColumn(final double x, final double x0, final double scale) {
+        double c = Math.floor((x - x0) * scale);
+        if (c < 0) {
+            return -1;
+        }
+        if (c >= width) {
+            return (x - x0) * scale > width ? width : width - 1;
+        }
+        return (int) c;
+    }
+
+    /**
+     * Index of first point with value x greater than given value.
+     * @param s dependence
+     * @param x value x
+     * @return index of point or size of dependence
+     */
+    private static int findFirstGreater(final DataSeries s, final double x) {
+        int a = 0;
+        int b = s.size();
+        while (a < b) {
+            int m = (a + b) >>> 1;
+            if (s.getX(m) > x) {
+                b = m;
+            } else {
+                a = m + 1;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Index of point in source dataset.
+     * @param series index of series
+     * @param item index of selected point
+     * @return index of point
+     */
+    private int getSourceItem(final int series, final int item) {
+        int[] o = indexes[series];
+        if (o == null) {
+            return first[series] + item;
+        }
+        return o[item];
+    }
+
+    /**
+     * Count of series.
+     * @return count of series
+     */
+    @Override
+    public int getSeriesCount() {
+        return source.getSeriesCount();
+    }
+
+    /**
+     * Key of series.
+     * @param series index of series
+     * @return key of series
+     */
+    @Override
+    public Comparable<?> getSeriesKey(final int series) {
+        return source.getSeriesKey(series);
+    }
+
+    /**
+     * Count of selected points of series.
+     * @param series index of series
+     * @return count of points
+     */
+    public int getItemCount(final int series) {
+        return count[series];
+    }
+
+    /**
+     * Value x.
+     * @param series index of series
+     * @param item index of point
+     * @return value x
+     */
+    public Number getX(final int series, final int item) {
+        return Double.valueOf(getXValue(series, item));
+    }
+
+    /**
+     * Value y.
+     * @param series index of series
+     * @param item index of point
+     * @return value y
+     */
+    public Number getY(final int series, final int item) {
+        return Double.valueOf(getYValue(series, item));
+    }
+
+    /**
+     * Value x without boxing.
+     * @param series index of series
+     * @param item index of point
+     * @return value x
+     */
+    @Override
+    public double getXValue(final int series, final int item) {
+        return source.getXValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Value y without boxing.
+     * @param series index of series
+     * @param item index of point
+     * @return value y
+     */
+    @Override
+    public double getYValue(final int series, final int item) {
+        return source.getYValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Minimum value x of all points.
+     * @param includeInterval not used
+     * @return minimum value x
+     */
+    public double getDomainLowerBound(final boolean includeInterval) {
+        return source.getDomainLowerBound(includeInterval);
+    }
+
+    /**
+     * Maximum value x of all points.
+     * @param includeInterval not used
+     * @return maximum value x
+     */
+    public double getDomainUpperBound(final boolean includeInterval) {
+        return source.getDomainUpperBound(includeInterval);
+    }
+
+    /**
+     * Range of values x of all points.
+     * @param includeInterval not used
+     * @return range or null if there are no values
+     */
+    public Range getDomainBounds(final boolean includeInterval) {
+        return source.getDomainBounds(includeInterval);
+    }
+
+    /**
+     * Minimum value y of all points.
+     * @param includeInterval not used
+     * @return minimum value y
+     */
+    public double getRangeLowerBound(final boolean includeInterval) {
+        return source.getRangeLowerBound(includeInterval);
+    }
+
+    /**
+     * Maximum value y of all points.
+     * @param includeInterval not used
+     * @return maximum value y
+     */
+    public double getRangeUpperBound(final boolean includeInterval) {
+        return source.getRangeUpperBound(includeInterval);
+    }
+
+    /**
+     * Range of values y of all points.
+     * @param includeInterval not used
+     * @return range or null if there are no values
+     */
+    public Range getRangeBounds(final boolean includeInterval) {
+        return source.getRangeBounds(includeInterval);
+    }
+}
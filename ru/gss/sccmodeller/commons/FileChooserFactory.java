@@ -10,7 +10,7 @@ import javax.swing.filechooser.FileNameExtensionFilter;
 
 /**
  * Dialog for choose or save of file.
- * @version 1.1.0 12.03.2020
+ * @version 1.1.0 18.10.2026
  * @author Sergey Guskov
  */
 public final class FileChooserFactory {
@@ -91,6 +91,7 @@ public final class FileChooserFactory {
             chooser.setAcceptAllFileFilterUsed(false);
         }
         chooser.setSelectedFile(new File(""));
+        chooser.setFileSelectionMode((type == 7) ? JFileChooser.DIRECTORIES_ONLY : JFileChooser.FILES_ONLY);
         //Delete all filters
         int n = chooser.getChoosableFileFilters().length;
         for (int i = 0; i < n; i++) {
@@ -109,5 +110,19 @@ public final class FileChooserFactory {
             chooser.addChoosableFileFilter(curFileFilter);
             chooser.setFileFilter(curFileFilter);
         }
+        //Filters csv and bin
+        if (type == 6) {
+            FileNameExtensionFilter curFileFilter = new FileNameExtensionFilter("*.csv", "csv");
+            chooser.addChoosableFileFilter(curFileFilter);
+            chooser.addChoosableFileFilter(new FileNameExtensionFilter("*.bin", "bin"));
+            chooser.setFileFilter(curFileFilter);
+        }
+        //Type 7 is directory without filters
+        //Filter scct
+        if (type == 8) {
+            FileNameExtensionFilter curFileFilter = new FileNameExtensionFilter("*.scct", "scct");
+            chooser.addChoosableFileFilter(curFileFilter);
+            chooser.setFileFilter(curFileFilter);
+        }
     }
 }
@@ -0,0 +1,24 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+/**
+ * Monitor of long calculation.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public interface CalculationMonitor {
+
+    /**
+     * Progress of calculation.
+     * @param value part of completed calculation from 0 to 1
+     */
+    void updateProgress(double value);
+
+    /**
+     * Cancellation of calculation.
+     * @return true if calculation must be stopped
+     */
+    boolean isCancelled();
+}
@@ -0,0 +1,134 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+/**
+ * Crack growth rate for fixed threshold stress intensity factor,
+ * anodic current density and yield strength.
+ * All factors which do not depend on stress intensity factor are calculated once in constructor.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class CrackGrowthKernel {
+
+    /**
+     * Number of electrons exchanged in corrosion.
+     */
+    private static final int Z = 2;
+    /**
+     * Atomic mass of iron, kg/mol.
+     */
+    private static final double M = 55.845e-3;
+    /**
+     * Faraday’s constant, C/mol.
+     */
+    private static final double F = 96485;
+    /**
+     * Density of iron, kg/m3.
+     */
+    private static final double RO = 7.847e3;
+    /**
+     * Incubation of repassivation, s.
+     */
+    private static final double T0 = 1e-2;
+    /**
+     * Specific length, m.
+     */
+    private static final double R0 = 1e-6;
+    /**
+     * Rupture ductility of passive film.
+     */
+    private static final double E0 = 1e-3;
+    /**
+     * Rice’s coefficient.
+     */
+    private static final double BT = 5.08;
+    /**
+     * Repassivation kinetic exponent.
+     */
+    private static final double NS = 0.667;
+    /**
+     * Strain-hardening exponent.
+     */
+    private static final double NB = 6;
+    /**
+     * Young’s modulus, MPa.
+     */
+    private static final double E = 200e3;
+
+    /**
+     * Threshold stress intensity factor, MPam1/2.
+     */
+    private final double thresholdSIF;
+    /**
+     * Square of threshold stress intensity factor.
+     */
+    private final double thresholdSIF2;
+    /**
+     * Factor under logarithm.
+     */
+    private final double logFactor;
+    /**
+     * Factor of crack growth rate.
+     */
+    private final double rateFactor;
+    /**
+     * Exponent of logarithm in crack growth rate.
+     */
+    private final double rateExponent;
+
+    /**
+     * Constructor.
+     * @param aThresholdSIF threshold stress intensity factor, MPam1/2
+     * @param aCurrentDensity anodic current density, A/м2
+     * @param aYieldStrength yield strength, MPa
+     */
+    public CrackGrowthKernel(final double aThresholdSIF, final double aCurrentDensity, final double aYieldStrength) {
+        thresholdSIF = aThresholdSIF;
+        thresholdSIF2 = aThresholdSIF * aThresholdSIF;
+        logFactor = 1 / (3 * Math.PI * R0 * aYieldStrength * aYieldStrength);
+        //v = (c1 * (c2 * ln^p)^ns)^q = c1^q * c2^(ns*q) * ln^(p*ns*q)
+        double p = (NB + 1) / (NB - 1);
+        double q = 1 / (1 - NS);
+        double c1 = M * aCurrentDensity / (Z * F * RO * (1 - NS));
+        double c2 = T0 * 2 * NB * BT * aYieldStrength / (E0 * R0 * (NB - 1) * E);
+        rateFactor = Math.pow(c1, q) * Math.pow(c2, NS * q);
+        rateExponent = p * NS * q;
+    }
+
+    /**
+     * Calculation crack growth rate.
+     * @param k stress intensity factor, MPam1/2
+     * @return crack growth rate, m/s
+     */
+    public double evaluate(final double k) {
+        if (k > thresholdSIF) {
+            return rateFactor * Math.pow(Math.log((k * k - thresholdSIF2) * logFactor), rateExponent);
+        }
+        return 0.0;
+    }
+
+    /**
+     * Calculation crack growth rate for array of stress intensity factors.
+     * Arguments of logarithm are calculated by separate loop without branches,
+     * so it can be vectorized by compiler. Results are the same as for single values.
+     * Arrays must be different.
+     * @param k stress intensity factors, MPam1/2
+     * @param v crack growth rates, m/s
+     * @param from first index
+     * @param to index after the last one
+     */
+    public void evaluate(final double[] k, final double[] v, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            v[i] = (k[i] * k[i] - thresholdSIF2) * logFactor;
+        }
+        for (int i = from; i < to; i++) {
+            if (k[i] > thresholdSIF) {
+                v[i] = rateFactor * Math.pow(Math.log(v[i]), rateExponent);
+            } else {
+                v[i] = 0.0;
+            }
+        }
+    }
+}
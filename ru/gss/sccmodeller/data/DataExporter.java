@@ -0,0 +1,292 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Export of calculated dependences to CSV or binary files.
+ * Values are written from arrays of dependences to buffer of bytes and then to channel of file,
+ * strings are not created for rows.
+ * In CSV files numbers are written with 12 significant digits and point as decimal separator.
+ * Binary file consists of little-endian values: 4 bytes "SCCM", int version (1),
+ * int count of dependences and then for every dependence: int number of parameter set from 1,
+ * int dependence (0 - CGR, 1 - SIF, 2 - CCD), int length and bytes of name of parameter set in UTF-8,
+ * int count of points n, n double values x, n double values y.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public final class DataExporter {
+
+    /**
+     * Headers of CSV files of dependences.
+     */
+    public static final String[] HEADERS = {"K_MPa_m05,dadt_mm_year", "a_mm,K_MPa_m05", "t_year,a_mm"};
+    /**
+     * Suffixes of names of files of dependences.
+     */
+    public static final String[] SUFFIXES = {"_cgr", "_sif", "_ccd"};
+    /**
+     * Version of binary format.
+     */
+    public static final int BINARY_VERSION = 1;
+    /**
+     * Signature of binary file.
+     */
+    private static final byte[] SIGNATURE = {'S', 'C', 'C', 'M'};
+    /**
+     * Count of significant digits in CSV files.
+     */
+    private static final int SIGNIFICANT_DIGITS = 12;
+    /**
+     * Size of buffer, byte.
+     */
+    private static final int BUFFER_SIZE = 1 << 18;
+    /**
+     * Maximum length of row of CSV file, byte.
+     */
+    private static final int MAX_ROW_LENGTH = 128;
+    /**
+     * Powers of ten.
+     */
+    private static final double[] POWERS = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+        1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18};
+    /**
+     * Charset of text.
+     */
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
+    /**
+     * Constructor.
+     */
+    private DataExporter() {
+    }
+
+    /**
+     * Save dependence of parameter set to CSV file.
+     * @param file file
+     * @param dataSet parameter set
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @throws IOException exception
+     */
+    public static void writeCsv(final File file, final DataSet dataSet, final int dependence) throws IOException {
+        FileChannel channel = new FileOutputStream(file).getChannel();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            putAscii(buffer, HEADERS[dependence]);
+            buffer.put((byte) '\n');
+            putRows(channel, buffer, dataSet.getData(dependence), -1);
+            flush(channel, buffer);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Save dependences of all parameter sets to one CSV file.
+     * The first column is number of parameter set from 1.
+     * @param file file
+     * @param data list of parameter sets
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @throws IOException exception
+     */
+    public static void writeCsv(final File file, final DataList data, final int dependence) throws IOException {
+        FileChannel channel = new FileOutputStream(file).getChannel();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            putAscii(buffer, "set,");
+            putAscii(buffer, HEADERS[dependence]);
+            buffer.put((byte) '\n');
+            for (int i = 0; i < data.getDataSetCount(); i++) {
+                putRows(channel, buffer, data.getDataSet().get(i).getData(dependence), i + 1);
+            }
+            flush(channel, buffer);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Save all dependences of parameter set to binary file.
+     * @param file file
+     * @param dataSet parameter set
+     * @throws IOException exception
+     */
+    public static void writeBinary(final File file, final DataSet dataSet) throws IOException {
+        DataList data = new DataList();
+        data.getDataSet().add(dataSet);
+        writeBinary(file, data);
+    }
+
+    /**
+     * Save all dependences of all parameter sets to binary file.
+     * @param file file
+     * @param data list of parameter sets
+     * @throws IOException exception
+     */
+    public static void writeBinary(final File file, final DataList data) throws IOException {
+        FileChannel channel = new FileOutputStream(file).getChannel();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            int n = data.getDataSetCount();
+            buffer.put(SIGNATURE);
+            buffer.putInt(BINARY_VERSION);
+            buffer.putInt(n * (DataSet.DEPENDENCE_CCD + 1));
+            for (int i = 0; i < n; i++) {
+                DataSet o = data.getDataSet().get(i);
+                byte[] name = o.getName().getBytes(CHARSET);
+                for (int j = DataSet.DEPENDENCE_CGR; j <= DataSet.DEPENDENCE_CCD; j++) {
+                    DataSeries s = o.getData(j);
+                    if (buffer.remaining() < 16 + name.length) {
+                        flush(channel, buffer);
+                    }
+                    buffer.putInt(i + 1);
+                    buffer.putInt(j);
+                    buffer.putInt(name.length);
+                    if (name.length > buffer.remaining()) {
+                        flush(channel, buffer);
+                        channel.write(ByteBuffer.wrap(name));
+                    } else {
+                        buffer.put(name);
+                    }
+                    buffer.putInt(s.size());
+                    putValues(channel, buffer, s.getXArray(), s.size());
+                    putValues(channel, buffer, s.getYArray(), s.size());
+                }
+            }
+            flush(channel, buffer);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Put array of values to buffer, full buffer is written to channel.
+     * @param channel channel of file
+     * @param buffer buffer with little-endian order
+     * @param values values
+     * @param count count of values
+     * @throws IOException exception
+     */
+    private static void putValues(final FileChannel channel, final ByteBuffer buffer,
+            final double[] values, final int count) throws IOException {
+        int i = 0;
+        while (i < count) {
+            if (buffer.remaining() < 8) {
+                flush(channel, buffer);
+            }
+            int k = Math.min(count - i, buffer.remaining() / 8);
+            buffer.asDoubleBuffer().put(values, i, k);
+            buffer.position(buffer.position() + 8 * k);
+            i = i + k;
+        }
+    }
+
+    /**
+     * Put rows of dependence to buffer, full buffer is written to channel.
+     * @param channel channel of file
+     * @param buffer buffer
+     * @param s dependence
+     * @param set number of parameter set for the first column or -1 without it
+     * @throws IOException exception
+     */
+    private static void putRows(final FileChannel channel, final ByteBuffer buffer,
+            final DataSeries s, final int set) throws IOException {
+        double[] x = s.getXArray();
+        double[] y = s.getYArray();
+        for (int i = 0; i < s.size(); i++) {
+            if (buffer.remaining() < MAX_ROW_LENGTH) {
+                flush(channel, buffer);
+            }
+            if (set >= 0) {
+                putLong(buffer, set);
+                buffer.put((byte) ',');
+            }
+            putDouble(buffer, x[i]);
+            buffer.put((byte) ',');
+            putDouble(buffer, y[i]);
+            buffer.put((byte) '\n');
+        }
+    }
+
+    /**
+     * Write buffer to channel and clear buffer.
+     * @param channel channel of file
+     * @param buffer buffer
+     * @throws IOException exception
+     */
+    private static void flush(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Put text in ASCII to buffer.
+     * @param buffer buffer
+     * @param s text
+     */
+    private static void putAscii(final ByteBuffer buffer, final String s) {
+        for (int i = 0; i < s.length(); i++) {
+            buffer.put((byte) s.charAt(i));
+        }
+    }
+
+    /**
+     * Put integer number to buffer.
+     * @param buffer buffer
+     * @param value non-negative number
+     */
+    private static void putLong(final ByteBuffer buffer, final long value) {
+        if (value >= 10) {
+            putLong(buffer, value / 10);
+        }
+        buffer.put((byte) ('0' + value % 10));
+    }
+
+    /**
+     * Put number with fixed count of significant digits to buffer, trailing zeros are removed.
+     * Very small and very large numbers are written in exponential form.
+     * @param buffer buffer
+     * @param value number
+     */
+    static void putDouble(final ByteBuffer buffer, final double value) {
+        if (value == 0) {
+            buffer.put((byte) '0');
+            return;
+        }
+        double v = Math.abs(value);
+        if (Double.isNaN(v) || Double.isInfinite(v) || (v < 1e-4) || (v >= 1e15)) {
+            putAscii(buffer, String.format(java.util.Locale.US, "%." + (SIGNIFICANT_DIGITS - 1) + "e", value));
+            return;
+        }
+        if (value < 0) {
+            buffer.put((byte) '-');
+        }
+        int exponent = (int) Math.floor(Math.log10(v));
+        int decimals = Math.max(SIGNIFICANT_DIGITS - 1 - exponent, 0);
+        long scaled = Math.round(v * POWERS[decimals]);
+        while ((decimals > 0) && (scaled % 10 == 0)) {
+            scaled = scaled / 10;
+            decimals--;
+        }
+        long unit = (long) POWERS[decimals];
+        putLong(buffer, scaled / unit);
+        if (decimals > 0) {
+            buffer.put((byte) '.');
+            long fraction = scaled % unit;
+            for (long d = unit / 10; d > 0; d = d / 10) {
+                buffer.put((byte) ('0' + (fraction / d) % 10));
+            }
+        }
+    }
+}
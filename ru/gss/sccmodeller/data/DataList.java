@@ -8,13 +8,15 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.swing.JTextArea;
-import org.jfree.data.xy.XYSeries;
-import org.jfree.data.xy.XYSeriesCollection;
 
 /**
  * List of model parameter set.
- * @version 1.1.0 17.03.2020
+ * @version 1.1.0 18.10.2026
  * @author Sergey Guskov
  */
 public class DataList {
@@ -31,6 +33,10 @@ public class DataList {
      * Show legend.
      */
     private boolean showLegend;
+    /**
+     * Open stores of dependences which are read by parameter sets of list.
+     */
+    private ArrayList<MappedResultStore> stores;
 
     /**
      * Constructor.
@@ -39,6 +45,7 @@ public class DataList {
         dataSet = new ArrayList<DataSet>();
         dataSetIndex = -1;
         showLegend = false;
+        stores = new ArrayList<MappedResultStore>();
     }
 
     /**
@@ -66,65 +73,253 @@ public class DataList {
     }
 
     /**
-     * Maximum count of parameter set.
-     * @return maximum count of parameter set
+     * Index of parameter set in list.
+     * @param o parameter set
+     * @return index of parameter set or -1 if it is not in list
      */
-    public int getDataSetCountMax() {
-        return 9;
+    public int indexOf(final DataSet o) {
+        for (int i = 0; i < dataSet.size(); i++) {
+            if (dataSet.get(i) == o) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Create dataset for CGR chart.
-     * @return dataset
+     * Flags of showing dependences of parameter sets on charts.
+     * @return flags of showing dependences on charts
      */
-    public XYSeriesCollection createDatasetCGR() {
-        XYSeriesCollection dataset = new XYSeriesCollection();
-        int k = 1;
+    public boolean[] getShowOnChart() {
+        boolean[] o = new boolean[dataSet.size()];
         for (int i = 0; i < dataSet.size(); i++) {
-            XYSeries series = new XYSeries(k);
-            for (int j = 0; j < dataSet.get(i).getDataCGR().size(); j++) {
-                series.add(dataSet.get(i).getDataCGR().get(j).getX(), dataSet.get(i).getDataCGR().get(j).getY());
+            o[i] = dataSet.get(i).isShowOnChart();
+        }
+        return o;
+    }
+
+    /**
+     * Add store of dependences.
+     * Store is kept open while dependences of parameter sets of list are read from it.
+     * @param store store of dependences
+     */
+    public void addStore(final MappedResultStore store) {
+        if (!stores.contains(store)) {
+            stores.add(store);
+        }
+    }
+
+    /**
+     * Delete parameter set.
+     * Stores of dependences which are not read by other parameter sets are closed.
+     * @param index index of parameter set
+     * @throws IOException exception
+     */
+    public void removeDataSet(final int index) throws IOException {
+        dataSet.remove(index);
+        closeUnusedStores();
+    }
+
+    /**
+     * Delete all parameter sets and close all stores of dependences.
+     * @throws IOException exception
+     */
+    public void clear() throws IOException {
+        dataSet.clear();
+        dataSetIndex = -1;
+        closeUnusedStores();
+    }
+
+    /**
+     * Close stores of dependences which are not read by parameter sets of list.
+     * Dependence of parameter set can be replaced by calculated one,
+     * so store is used while one of parameter sets has dependence from it.
+     * @throws IOException exception of closing of the first store, other stores are closed anyway
+     */
+    public void closeUnusedStores() throws IOException {
+        IOException exception = null;
+        for (int i = stores.size() - 1; i >= 0; i--) {
+            MappedResultStore store = stores.get(i);
+            if (isStoreUsed(store)) {
+                continue;
             }
-            dataset.addSeries(series);
-            k++;
+            stores.remove(i);
+            try {
+                store.close();
+            } catch (IOException ex) {
+                if (exception == null) {
+                    exception = ex;
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
         }
-        return dataset;
     }
 
     /**
-     * Create dataset for SIF chart.
-     * @return dataset
+     * Store of dependences is read by one of parameter sets of list.
+     * @param store store of dependences
+     * @return true if dependence for CCD of one of parameter sets is read from store
+     */
+    private boolean isStoreUsed(final MappedResultStore store) {
+        for (DataSet o : dataSet) {
+            DataSeries s = o.getData(DataSet.DEPENDENCE_CCD);
+            if ((s instanceof MappedDataSeries) && (((MappedDataSeries) s).getStore() == store)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copy of list with copies of all parameter sets.
+     * Calculated dependences are shared with copies of parameter sets,
+     * stores of dependences stay open by this list.
+     * @return copy of list
      */
-    public XYSeriesCollection createDatasetSIF() {
-        XYSeriesCollection dataset = new XYSeriesCollection();
-        int k = 1;
+    public DataList copy() {
+        DataList o = new DataList();
         for (int i = 0; i < dataSet.size(); i++) {
-            XYSeries series = new XYSeries(k);
-            for (int j = 0; j < dataSet.get(i).getDataSIF().size(); j++) {
-                series.add(dataSet.get(i).getDataSIF().get(j).getX(), dataSet.get(i).getDataSIF().get(j).getY());
+            o.dataSet.add(dataSet.get(i).copy());
+        }
+        o.dataSetIndex = dataSetIndex;
+        o.showLegend = showLegend;
+        return o;
+    }
+
+    /**
+     * Calculation of all dependences for all parameter sets.
+     * @param monitor monitor of calculation or null
+     * @throws InterruptedException calculation is interrupted
+     * @throws ExecutionException calculation of one of parameter sets is failed
+     */
+    public void calculateAll(final CalculationMonitor monitor) throws InterruptedException, ExecutionException {
+        calculateAll(monitor, null);
+    }
+
+    /**
+     * Calculation of all dependences for all parameter sets.
+     * Parameter sets are calculated concurrently by pool of threads,
+     * size of pool is equal to count of processors.
+     * Only stale dependences are calculated.
+     * @param monitor monitor of calculation or null
+     * @param cache cache of results or null
+     * @throws InterruptedException calculation is interrupted
+     * @throws ExecutionException calculation of one of parameter sets is failed
+     */
+    public void calculateAll(final CalculationMonitor monitor, final ResultCache cache)
+            throws InterruptedException, ExecutionException {
+        final int n = dataSet.size();
+        if (n == 0) {
+            return;
+        }
+        final double[] progress = new double[n];
+        int threadCount = Math.min(n, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        ArrayList<Future<?>> futures = new ArrayList<Future<?>>();
+        try {
+            for (int i = 0; i < n; i++) {
+                final DataSet o = dataSet.get(i);
+                final int index = i;
+                futures.add(executor.submit(new Runnable() {
+                    public void run() {
+                        for (int j = DataSet.DEPENDENCE_CGR; j <= DataSet.DEPENDENCE_CCD; j++) {
+                            final int dependence = j;
+                            if (!o.isStale(dependence)) {
+                                //Dependence corresponds to parameters
+                                updateTotalProgress(monitor, progress, index, (dependence + 1.0) / 3);
+                                continue;
+                            }
+                            o.calculate(dependence, new CalculationMonitor() {
+                                public void updateProgress(final double value) {
+                                    updateTotalProgress(monitor, progress, index, (dependence + value) / 3);
+                                }
+
+                                public boolean isCancelled() {
+                                    return Thread.currentThread().isInterrupted()
+                                            || ((monitor != null) && monitor.isCancelled());
+                                }
+                            }, cache);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
             }
-            dataset.addSeries(series);
-            k++;
+        } finally {
+            //Stop other calculations after failure or interruption
+            executor.shutdownNow();
         }
-        return dataset;
     }
 
     /**
-     * Create dataset for CCD chart.
+     * Show total progress of calculation of all parameter sets.
+     * @param monitor monitor of calculation or null
+     * @param progress progress of every parameter set
+     * @param index index of parameter set
+     * @param value progress of parameter set
+     */
+    private static void updateTotalProgress(final CalculationMonitor monitor,
+            final double[] progress, final int index, final double value) {
+        if (monitor == null) {
+            return;
+        }
+        double sum = 0;
+        synchronized (progress) {
+            progress[index] = value;
+            for (int i = 0; i < progress.length; i++) {
+                sum = sum + progress[i];
+            }
+        }
+        monitor.updateProgress(sum / progress.length);
+    }
+
+    /**
+     * Create dataset for chart over calculated dependences without copying of points.
+     * @param dependence dependence (DataSet.DEPENDENCE_*)
      * @return dataset
      */
-    public XYSeriesCollection createDatasetCCD() {
-        XYSeriesCollection dataset = new XYSeriesCollection();
-        int k = 1;
+    public DataSeriesCollection createDataset(final int dependence) {
+        return new DataSeriesCollection(getSeries(dependence));
+    }
+
+    /**
+     * Dependences of all parameter sets.
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @return dependences
+     */
+    public DataSeries[] getSeries(final int dependence) {
+        DataSeries[] series = new DataSeries[dataSet.size()];
         for (int i = 0; i < dataSet.size(); i++) {
-            XYSeries series = new XYSeries(k);
-            for (int j = 0; j < dataSet.get(i).getDataCCD().size(); j++) {
-                series.add(dataSet.get(i).getDataCCD().get(j).getX(), dataSet.get(i).getDataCCD().get(j).getY());
-            }
-            dataset.addSeries(series);
-            k++;
+            series[i] = dataSet.get(i).getData(dependence);
         }
-        return dataset;
+        return series;
+    }
+
+    /**
+     * Create dataset for CGR chart.
+     * @return dataset
+     */
+    public DataSeriesCollection createDatasetCGR() {
+        return createDataset(DataSet.DEPENDENCE_CGR);
+    }
+
+    /**
+     * Create dataset for SIF chart.
+     * @return dataset
+     */
+    public DataSeriesCollection createDatasetSIF() {
+        return createDataset(DataSet.DEPENDENCE_SIF);
+    }
+
+    /**
+     * Create dataset for CCD chart.
+     * @return dataset
+     */
+    public DataSeriesCollection createDatasetCCD() {
+        return createDataset(DataSet.DEPENDENCE_CCD);
     }
 
     /**
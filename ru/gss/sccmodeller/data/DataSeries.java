@@ -0,0 +1,149 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.util.Arrays;
+
+/**
+ * Dependence y(x) stored in growable arrays of primitive values.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class DataSeries {
+
+    /**
+     * Values x.
+     */
+    private double[] x;
+    /**
+     * Values y.
+     */
+    private double[] y;
+    /**
+     * Count of points.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    public DataSeries() {
+        this(16);
+    }
+
+    /**
+     * Constructor.
+     * @param capacity initial count of points
+     */
+    public DataSeries(final int capacity) {
+        x = new double[Math.max(capacity, 1)];
+        y = new double[Math.max(capacity, 1)];
+        size = 0;
+    }
+
+    /**
+     * Constructor for calculated arrays, arrays are used without copying.
+     * @param aX values x
+     * @param aY values y
+     * @param aSize count of points
+     */
+    public DataSeries(final double[] aX, final double[] aY, final int aSize) {
+        x = aX;
+        y = aY;
+        size = aSize;
+    }
+
+    /**
+     * Add point.
+     * @param aX value x
+     * @param aY value y
+     */
+    public void add(final double aX, final double aY) {
+        if (size == x.length) {
+            int capacity = x.length + (x.length >> 1) + 1;
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+        }
+        x[size] = aX;
+        y[size] = aY;
+        size++;
+    }
+
+    /**
+     * Delete all points.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Count of points.
+     * @return count of points
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Absence of points.
+     * @return true if there are no points
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Approximate size of dependence in memory.
+     * @return size, byte
+     */
+    public long getMemorySize() {
+        return 2L * (16 + 8L * x.length) + 24;
+    }
+
+    /**
+     * Value x.
+     * @param index index of point
+     * @return value x
+     */
+    public double getX(final int index) {
+        checkIndex(index);
+        return x[index];
+    }
+
+    /**
+     * Value y.
+     * @param index index of point
+     * @return value y
+     */
+    public double getY(final int index) {
+        checkIndex(index);
+        return y[index];
+    }
+
+    /**
+     * Values x without copying, only first size() values are valid.
+     * @return array of values x
+     */
+    double[] getXArray() {
+        return x;
+    }
+
+    /**
+     * Values y without copying, only first size() values are valid.
+     * @return array of values y
+     */
+    double[] getYArray() {
+        return y;
+    }
+
+    /**
+     * Check index of point.
+     * @param index index of point
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
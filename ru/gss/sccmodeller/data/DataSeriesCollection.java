@@ -0,0 +1,263 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.xy.AbstractXYDataset;
+
+/**
+ * Dataset of charts over calculated dependences.
+ * Arrays of dependences are used without copying and boxing of values,
+ * bounds of values are calculated once for every dependence.
+ * Dependences can be replaced, listeners are notified only if some dependence is changed.
+ * Key of series is number of parameter set from 1.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class DataSeriesCollection extends AbstractXYDataset implements DomainInfo, RangeInfo {
+
+    /**
+     * Dependences.
+     */
+    private DataSeries[] series;
+    /**
+     * Bounds of values of every dependence.
+     */
+    private double[][] seriesBounds;
+    /**
+     * Bounds of values x and y: minimum x, maximum x, minimum y, maximum y.
+     */
+    private double[] bounds;
+
+    /**
+     * Constructor.
+     * @param aSeries dependences
+     */
+    public DataSeriesCollection(final DataSeries[] aSeries) {
+        series = aSeries;
+        seriesBounds = new double[aSeries.length][];
+        for (int i = 0; i < aSeries.length; i++) {
+            seriesBounds[i] = calculateBounds(aSeries[i]);
+        }
+        bounds = calculateBounds(seriesBounds);
+    }
+
+    /**
+     * Replace dependences.
+     * Bounds are calculated again only for changed dependences,
+     * listeners are notified if count of dependences or some dependence is changed.
+     * @param aSeries dependences
+     */
+    public void setSeries(final DataSeries[] aSeries) {
+        boolean changed = aSeries.length != series.length;
+        double[][] newBounds = new double[aSeries.length][];
+        for (int i = 0; i < aSeries.length; i++) {
+            if ((i < series.length) && (aSeries[i] == series[i])) {
+                newBounds[i] = seriesBounds[i];
+            } else {
+                newBounds[i] = calculateBounds(aSeries[i]);
+                changed = true;
+            }
+        }
+        if (changed) {
+            series = aSeries;
+            seriesBounds = newBounds;
+            bounds = calculateBounds(newBounds);
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Bounds of values of dependence.
+     * @param s dependence
+     * @return bounds: minimum x, maximum x, minimum y, maximum y (infinity if there are no values)
+     */
+    private static double[] calculateBounds(final DataSeries s) {
+        double[] o = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (int i = 0; i < s.size(); i++) {
+            double x = s.getX(i);
+            double y = s.getY(i);
+            if (x < o[0]) {
+                o[0] = x;
+            }
+            if (x > o[1]) {
+                o[1] = x;
+            }
+            if (y < o[2]) {
+                o[2] = y;
+            }
+            if (y > o[3]) {
+                o[3] = y;
+            }
+        }
+        return o;
+    }
+
+    /**
+     * Bounds of values of all dependences, values not a number are skipped.
+     * @param aBounds bounds of values of every dependence
+     * @return bounds: minimum x, maximum x, minimum y, maximum y (NaN if there are no values)
+     */
+    private static double[] calculateBounds(final double[][] aBounds) {
+        double[] o = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (double[] b : aBounds) {
+            o[0] = Math.min(o[0], b[0]);
+            o[1] = Math.max(o[1], b[1]);
+            o[2] = Math.min(o[2], b[2]);
+            o[3] = Math.max(o[3], b[3]);
+        }
+        if (o[0] > o[1]) {
+            o[0] = Double.NaN;
+            o[1] = Double.NaN;
+        }
+        if (o[2] > o[3]) {
+            o[2] = Double.NaN;
+            o[3] = Double.NaN;
+        }
+        return o;
+    }
+
+    /**
+     * Dependence.
+     * @param index index of series
+     * @return dependence
+     */
+    public DataSeries getSeries(final int index) {
+        return series[index];
+    }
+
+    /**
+     * Count of series.
+     * @return count of series
+     */
+    @Override
+    public int getSeriesCount() {
+        return series.length;
+    }
+
+    /**
+     * Key of series.
+     * @param index index of series
+     * @return number of parameter set
+     */
+    @Override
+    public Comparable<?> getSeriesKey(final int index) {
+        return Integer.valueOf(index + 1);
+    }
+
+    /**
+     * Count of points of series.
+     * @param index index of series
+     * @return count of points
+     */
+    public int getItemCount(final int index) {
+        return series[index].size();
+    }
+
+    /**
+     * Value x.
+     * @param index index of series
+     * @param item index of point
+     * @return value x
+     */
+    public Number getX(final int index, final int item) {
+        return Double.valueOf(series[index].getX(item));
+    }
+
+    /**
+     * Value y.
+     * @param index index of series
+     * @param item index of point
+     * @return value y
+     */
+    public Number getY(final int index, final int item) {
+        return Double.valueOf(series[index].getY(item));
+    }
+
+    /**
+     * Value x without boxing.
+     * @param index index of series
+     * @param item index of point
+     * @return value x
+     */
+    @Override
+    public double getXValue(final int index, final int item) {
+        return series[index].getX(item);
+    }
+
+    /**
+     * Value y without boxing.
+     * @param index index of series
+     * @param item index of point
+     * @return value y
+     */
+    @Override
+    public double getYValue(final int index, final int item) {
+        return series[index].getY(item);
+    }
+
+    /**
+     * Minimum value x.
+     * @param includeInterval not used
+     * @return minimum value x
+     */
+    public double getDomainLowerBound(final boolean includeInterval) {
+        return bounds[0];
+    }
+
+    /**
+     * Maximum value x.
+     * @param includeInterval not used
+     * @return maximum value x
+     */
+    public double getDomainUpperBound(final boolean includeInterval) {
+        return bounds[1];
+    }
+
+    /**
+     * Range of values x.
+     * @param includeInterval not used
+     * @return range or null if there are no values
+     */
+    public Range getDomainBounds(final boolean includeInterval) {
+        if (Double.isNaN(bounds[0])) {
+            return null;
+        }
+        return new Range(bounds[0], bounds[1]);
+    }
+
+    /**
+     * Minimum value y.
+     * @param includeInterval not used
+     * @return minimum value y
+     */
+    public double getRangeLowerBound(final boolean includeInterval) {
+        return bounds[2];
+    }
+
+    /**
+     * Maximum value y.
+     * @param includeInterval not used
+     * @return maximum value y
+     */
+    public double getRangeUpperBound(final boolean includeInterval) {
+        return bounds[3];
+    }
+
+    /**
+     * Range of values y.
+     * @param includeInterval not used
+     * @return range or null if there are no values
+     */
+    public Range getRangeBounds(final boolean includeInterval) {
+        if (Double.isNaN(bounds[2])) {
+            return null;
+        }
+        return new Range(bounds[2], bounds[3]);
+    }
+}
@@ -3,22 +3,84 @@
  */
 package ru.gss.sccmodeller.data;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.CancellationException;
 
 /**
  * Model parameters.
- * @version 1.1.0 20.03.2020
+ * @version 1.1.0 18.10.2026
  * @author Sergey Guskov
  */
 public class DataSet {
 
+    /**
+     * Dependence crack growth rate - stress intensity factor.
+     */
+    public static final int DEPENDENCE_CGR = 0;
+    /**
+     * Dependence stress intensity factor - corrosion crack depth.
+     */
+    public static final int DEPENDENCE_SIF = 1;
+    /**
+     * Dependence corrosion crack depth - time.
+     */
+    public static final int DEPENDENCE_CCD = 2;
+    /**
+     * Change of parameter affects dependence for CGR.
+     */
+    private static final int AFFECT_CGR = 1 << DEPENDENCE_CGR;
+    /**
+     * Change of parameter affects dependence for SIF.
+     */
+    private static final int AFFECT_SIF = 1 << DEPENDENCE_SIF;
+    /**
+     * Change of parameter affects dependence for CCD.
+     */
+    private static final int AFFECT_CCD = 1 << DEPENDENCE_CCD;
+    /**
+     * CCD calculation by explicit Euler method with fixed time substep.
+     */
+    public static final int METHOD_EULER = 0;
+    /**
+     * CCD calculation by embedded Runge-Kutta method with adaptive time step.
+     */
+    public static final int METHOD_ADAPTIVE = 1;
+    /**
+     * CCD calculation by quadrature over crack depth.
+     */
+    public static final int METHOD_QUADRATURE = 2;
+    /**
+     * SIF calculation by exact formula.
+     */
+    public static final int SIF_EXACT = 0;
+    /**
+     * SIF calculation by cubic spline of tabulated formula.
+     */
+    public static final int SIF_TABULATED = 1;
+    /**
+     * Minimum relative tolerance of adaptive CCD calculation.
+     */
+    public static final double TOLERANCE_MIN = 1e-8;
+    /**
+     * Maximum relative tolerance of adaptive CCD calculation.
+     */
+    public static final double TOLERANCE_MAX = 1e-1;
+    /**
+     * Count of points calculated between checks of progress.
+     */
+    private static final int BLOCK_SIZE = 1024;
+    /**
+     * Coefficients of continuous extension of Dormand-Prince 5(4) method for rates at stages.
+     */
+    private static final double[] DENSE_DP = {-12715105075.0 / 11282082432.0, 0,
+        87487479700.0 / 32700410799.0, -10690763975.0 / 1880347072.0,
+        701980252875.0 / 199316789632.0, -1453857185.0 / 822651844.0, 69997945.0 / 29380423.0};
+
     /**
      * Name of parameter set.
      */
@@ -27,6 +89,10 @@ public class DataSet {
      * Name of file.
      */
     private String fileName;
+    /**
+     * Show dependences on charts.
+     */
+    private boolean showOnChart;
     /**
      * Anodic current density, A/м2.
      */
@@ -90,23 +156,51 @@ public class DataSet {
     /**
      * Dependence crack growth rate - stress intensity factor.
      */
-    private ArrayList<DataLine> dataCGR;
+    private DataSeries dataCGR;
     /**
      * Dependence stress intensity factor - corrosion crack depth.
      */
-    private ArrayList<DataLine> dataSIF;
+    private DataSeries dataSIF;
     /**
      * Dependence corrosion crack depth - time.
      */
-    private ArrayList<DataLine> dataCCD;
+    private DataSeries dataCCD;
     /**
      * Count of time substep for calculation.
      */
     private int timeSubStepCount;
+    /**
+     * Count of depth intervals for calculation by quadrature.
+     */
+    private int depthNodeCount;
+    /**
+     * Method of CCD calculation.
+     */
+    private int calculationMethod;
+    /**
+     * Relative tolerance of adaptive CCD calculation.
+     */
+    private double tolerance;
+    /**
+     * Model of SIF calculation.
+     */
+    private int sifModel;
     /**
      * Count of parse exeptions.
      */
     private int parseExceptionCount;
+    /**
+     * Crack growth rate for current parameters.
+     */
+    private CrackGrowthKernel crackGrowthKernel;
+    /**
+     * Stress intensity factor for current parameters.
+     */
+    private StressIntensityKernel stressIntensityKernel;
+    /**
+     * Dependences which do not correspond to current parameters.
+     */
+    private boolean[] stale;
 
     /**
      * Constructor.
@@ -114,6 +208,7 @@ public class DataSet {
     public DataSet() {
         name = "";
         fileName = "";
+        showOnChart = true;
         currentDensity = 200;
         yieldStrength = 384;
         thresholdSIF = 20;
@@ -130,51 +225,15 @@ public class DataSet {
         stressIFEnd = 50.0;
         stressIFStep = 0.5;
         timeSubStepCount = 10000;
+        depthNodeCount = 1000;
+        calculationMethod = METHOD_EULER;
+        tolerance = 1e-6;
+        sifModel = SIF_EXACT;
         parseExceptionCount = 0;
-        dataCGR = new ArrayList<DataLine>();
-        dataSIF = new ArrayList<DataLine>();
-        dataCCD = new ArrayList<DataLine>();
-    }
-
-    /**
-     * Parse integer value.
-     * @param s string representation of integer value
-     * @return integer value or null
-     */
-    private Integer parseInteger(final String s) {
-        if (s.trim().isEmpty()) {
-            return null;
-        }
-        if (s.equals("-")) {
-            return null;
-        }
-        try {
-            return Integer.valueOf(s);
-        } catch (NumberFormatException ex) {
-            parseExceptionCount++;
-            return null;
-        }
-    }
-
-    /**
-     * Parse double value.
-     * @param s string representation of double value
-     * @return double value or null
-     */
-    private Double parseDouble(final String s) {
-        if (s.trim().isEmpty()) {
-            return null;
-        }
-        if (s.equals("-")) {
-            return null;
-        }
-        try {
-            String ss = s.replaceAll(",", ".");
-            return Double.valueOf(ss);
-        } catch (NumberFormatException ex) {
-            parseExceptionCount++;
-            return null;
-        }
+        dataCGR = new DataSeries();
+        dataSIF = new DataSeries();
+        dataCCD = new DataSeries();
+        stale = new boolean[] {true, true, true};
     }
 
     /**
@@ -214,48 +273,63 @@ public class DataSet {
         return String.format(Locale.US, "%." + precision + "f", value);
     }
 
-     /**
+    /**
      * Load data from file.
      * @param file file
      * @throws java.io.IOException exception
      */
     public void loadDataFromFile(final File file) throws IOException {
-        BufferedReader reader = null;
-        try {
-            //Read all lines from file
-            reader = new BufferedReader(new FileReader(file));
-            ArrayList<String> strings = new ArrayList<String>();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                strings.add(line);
-            }
-            dataCGR.clear();
-            dataSIF.clear();
-            dataCCD.clear();
-            parseExceptionCount = 0;
-            fileName = file.getAbsolutePath();
-            //Parse data
-            if (strings.size() > 15) {
-                setName(strings.get(0).trim());
-                setCurrentDensity(parseDouble(strings.get(1).trim()));
-                setYieldStrength(parseDouble(strings.get(2).trim()));
-                setThresholdSIF(parseDouble(strings.get(3).trim()));
-                setWallThickness(convertMillimeterToMeter(parseDouble(strings.get(4).trim())));
-                setInitDepth(convertMillimeterToMeter(parseDouble(strings.get(5).trim())));
-                setStress(parseDouble(strings.get(6).trim()));
-                setTimeBegin(convertYearToSecond(parseDouble(strings.get(7).trim())));
-                setTimeEnd(convertYearToSecond(parseDouble(strings.get(8).trim())));
-                setTimeStep(convertYearToSecond(parseDouble(strings.get(9).trim())));
-                setDepthBegin(convertMillimeterToMeter(parseDouble(strings.get(10).trim())));
-                setDepthEnd(convertMillimeterToMeter(parseDouble(strings.get(11).trim())));
-                setDepthStep(convertMillimeterToMeter(parseDouble(strings.get(12).trim())));
-                setStressIFBegin(parseDouble(strings.get(13).trim()));
-                setStressIFEnd(parseDouble(strings.get(14).trim()));
-                setStressIFStep(parseDouble(strings.get(15).trim()));
+        loadDataFromFile(file, new ParameterFileParser());
+    }
+
+    /**
+     * Load data from file by given parser, messages of errors remain in parser.
+     * @param file file
+     * @param parser parser of parameter files
+     * @throws java.io.IOException exception
+     */
+    public void loadDataFromFile(final File file, final ParameterFileParser parser) throws IOException {
+        parser.read(file);
+        dataCGR = new DataSeries();
+        dataSIF = new DataSeries();
+        dataCCD = new DataSeries();
+        invalidate(AFFECT_CGR | AFFECT_SIF | AFFECT_CCD);
+        fileName = file.getAbsolutePath();
+        parser.parseParameters(this);
+        parseExceptionCount = parser.getErrorCount();
+    }
+
+    /**
+     * Load data from file and restore calculated dependences from cache of results.
+     * @param file file
+     * @param cache cache of results or null
+     * @return true if one or more dependences are restored
+     * @throws java.io.IOException exception
+     */
+    public boolean loadDataFromFile(final File file, final ResultCache cache) throws IOException {
+        loadDataFromFile(file);
+        return restoreFromCache(cache);
+    }
+
+    /**
+     * Restore calculated dependences from cache of results.
+     * Dependences are not restored if there were errors of loading of parameters.
+     * @param cache cache of results or null
+     * @return true if one or more dependences are restored
+     */
+    public boolean restoreFromCache(final ResultCache cache) {
+        if ((cache == null) || (parseExceptionCount > 0)) {
+            return false;
+        }
+        boolean restored = false;
+        for (int i = DEPENDENCE_CGR; i <= DEPENDENCE_CCD; i++) {
+            DataSeries o = cache.get(createResultKey(i));
+            if (o != null) {
+                setData(i, o);
+                restored = true;
             }
-        } finally {
-            reader.close();
         }
+        return restored;
     }
 
     /**
@@ -300,57 +374,18 @@ public class DataSet {
             writer.newLine();
             writer.write(convertToString(stressIFStep, 4));
             writer.newLine();
+            writer.write(convertToString(calculationMethod));
+            writer.newLine();
+            writer.write(String.valueOf(tolerance));
+            writer.newLine();
+            writer.write(convertToString(sifModel));
+            writer.newLine();
             fileName = file.getAbsolutePath();
         } finally {
             writer.close();
         }
     }
 
-    /**
-     * Calculation crack growth rate.
-     * @param k stress intensity factor, MPam1/2
-     * @param k0 threshold stress intensity factor, MPam1/2
-     * @param i0 anodic current density, A/м2
-     * @param s0 yield strength, MPa
-     * @return crack growth rate, m/s
-     */
-    private double crackGrowthRate(final double k, final double k0, final double i0, final double s0) {
-        //Number of electrons exchanged in corrosion
-        int z = 2;
-        //Atomic mass of iron, kg/mol
-        double m = 55.845e-3;
-        //Faraday’s constant, C/mol
-        double f = 96485;
-        //Density of iron, kg/m3
-        double ro = 7.847e3;
-        //Incubation of repassivation, s
-        double t0 = 1e-2;
-        //Specific length, m
-        double r0 = 1e-6;
-        //Rupture ductility of passive film
-        double e0 = 1e-3;
-        //Rice’s coefficient
-        double bt = 5.08;
-        //Repassivation kinetic exponent
-        double ns = 0.667;
-        //Strain-hardening exponent
-        double nb = 6;
-        //Young’s modulus, MPa
-        double e = 200e3;
-
-        //Calculation
-        double v = 0.0;
-        if (k > k0) {
-            double v1 = Math.log((k * k - k0 * k0) / (3 * Math.PI * r0 * s0 * s0));
-            double v2 = Math.pow(v1, ((nb + 1) / (nb - 1)));
-            double v3 = t0 * 2 * nb * bt * s0 * v2 / (e0 * r0 * (nb - 1) * e);
-            double v4 = Math.pow(v3, ns);
-            double v5 = m * i0 * v4 / (z * f * ro * (1 - ns));
-            v = Math.pow(v5, (1 / (1 - ns)));
-        }
-        return v;
-    }
-
     /**
      * Calculation stress intensity factor.
      * @param a corrosion crack depth, m
@@ -358,65 +393,537 @@ public class DataSet {
      * @param s stress, MPa
      * @return stress intensity factor, MPam1/2
      */
-    private double stressIntensityFactor(final double a, final double w, final double s) {
-        double k1 = Math.sqrt(2 * w * Math.tan(Math.PI * a / 2 / w));
-        double k2 = Math.cos(Math.PI * a / 2 / w);
-        double k3 = 0.752 + 2.02 * a / w + 0.37 * Math.pow((1 - Math.sin(Math.PI * a / 2 / w)), 3);
-        double k = s * k1 / k2 * k3;
-        return k;
+    public double stressIntensityFactor(final double a, final double w, final double s) {
+        return StressIntensityKernel.calculate(a, w, s);
+    }
+
+    /**
+     * Show progress of calculation and check its cancellation.
+     * @param monitor monitor of calculation or null
+     * @param value part of completed calculation from 0 to 1
+     */
+    private void checkProgress(final CalculationMonitor monitor, final double value) {
+        if (monitor == null) {
+            return;
+        }
+        if (monitor.isCancelled()) {
+            throw new CancellationException("Расчет прерван");
+        }
+        if (value > 1) {
+            monitor.updateProgress(1);
+        } else if (value > 0) {
+            monitor.updateProgress(value);
+        } else {
+            monitor.updateProgress(0);
+        }
+    }
+
+    /**
+     * Calculation dependence.
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @param monitor monitor of calculation or null
+     */
+    public void calculate(final int dependence, final CalculationMonitor monitor) {
+        switch (dependence) {
+            case DEPENDENCE_CGR:
+                calculateCGR(monitor);
+                break;
+            case DEPENDENCE_SIF:
+                calculateSIF(monitor);
+                break;
+            default:
+                calculateCCD(monitor);
+                break;
+        }
+    }
+
+    /**
+     * Calculation dependence with use of cache of results.
+     * Dependence is taken from cache if it was calculated for the same parameters,
+     * otherwise it is calculated and put to cache.
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @param monitor monitor of calculation or null
+     * @param cache cache of results or null
+     */
+    public void calculate(final int dependence, final CalculationMonitor monitor, final ResultCache cache) {
+        if (cache == null) {
+            calculate(dependence, monitor);
+            return;
+        }
+        ResultKey key = createResultKey(dependence);
+        DataSeries o = cache.get(key);
+        if (o == null) {
+            calculate(dependence, monitor);
+            cache.put(key, getData(dependence));
+        } else {
+            setData(dependence, o);
+        }
+    }
+
+    /**
+     * Key of dependence in cache of results.
+     * Key contains only parameters which affect dependence.
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @return key of dependence
+     */
+    public ResultKey createResultKey(final int dependence) {
+        switch (dependence) {
+            case DEPENDENCE_CGR:
+                return new ResultKey(dependence, new double[] {
+                    currentDensity, yieldStrength, thresholdSIF, stressIFBegin, stressIFEnd, stressIFStep});
+            case DEPENDENCE_SIF:
+                return new ResultKey(dependence, new double[] {
+                    wallThickness, stress, depthBegin, depthEnd, depthStep, sifModel});
+            default:
+                //Parameter of accuracy depends on calculation method
+                double accuracy;
+                switch (calculationMethod) {
+                    case METHOD_ADAPTIVE:
+                        accuracy = tolerance;
+                        break;
+                    case METHOD_QUADRATURE:
+                        accuracy = depthNodeCount;
+                        break;
+                    default:
+                        accuracy = timeSubStepCount;
+                        break;
+                }
+                return new ResultKey(dependence, new double[] {
+                    currentDensity, yieldStrength, thresholdSIF, wallThickness, initDepth, stress,
+                    timeBegin, timeEnd, timeStep, calculationMethod, accuracy, sifModel});
+        }
     }
 
     /**
      * Calculation dependence for CGR.
      */
     public void calculateCGR() {
-        dataCGR.clear();
-        double k = stressIFBegin;
-        while (k <= stressIFEnd) {            
-            dataCGR.add(new DataLine(k, crackGrowthRate(k, thresholdSIF, currentDensity, yieldStrength) * 31536e6));
-            k = k + stressIFStep;
+        calculateCGR(null);
+    }
+
+    /**
+     * Calculation dependence for CGR.
+     * @param monitor monitor of calculation or null
+     */
+    public void calculateCGR(final CalculationMonitor monitor) {
+        CrackGrowthKernel kernel = getCrackGrowthKernel();
+        double[] k = createGrid(stressIFBegin, stressIFEnd, stressIFStep, Double.POSITIVE_INFINITY);
+        double[] v = new double[k.length];
+        for (int i = 0; i < k.length; i = i + BLOCK_SIZE) {
+            checkProgress(monitor, (double) i / k.length);
+            int to = Math.min(i + BLOCK_SIZE, k.length);
+            kernel.evaluate(k, v, i, to);
+            for (int j = i; j < to; j++) {
+                v[j] = v[j] * 31536e6;
+            }
         }
+        setData(DEPENDENCE_CGR, new DataSeries(k, v, k.length));
+    }
+
+    /**
+     * Points of grid from beginning to end with step.
+     * Points are calculated by sequential addition of step.
+     * @param begin beginning of grid
+     * @param end end of grid
+     * @param step step of grid
+     * @param limit points not less than limit are excluded
+     * @return points of grid
+     */
+    private static double[] createGrid(final double begin, final double end, final double step,
+            final double limit) {
+        double[] grid = new double[16];
+        int n = 0;
+        double p = begin;
+        while ((p <= end) && (p < limit)) {
+            if (n == grid.length) {
+                grid = Arrays.copyOf(grid, n + (n >> 1));
+            }
+            grid[n] = p;
+            n++;
+            p = p + step;
+        }
+        return Arrays.copyOf(grid, n);
     }
 
     /**
      * Calculation dependence for SIF.
      */
     public void calculateSIF() {
-        dataSIF.clear();
-        double a = depthBegin;
-        while (a <= depthEnd) {
-            if (a >= 0.9 * wallThickness) {
-                break;
+        calculateSIF(null);
+    }
+
+    /**
+     * Calculation dependence for SIF.
+     * @param monitor monitor of calculation or null
+     */
+    public void calculateSIF(final CalculationMonitor monitor) {
+        StressIntensityKernel sif = getStressIntensityKernel();
+        double[] a = createGrid(depthBegin, depthEnd, depthStep, getCriticalDepth());
+        double[] k = new double[a.length];
+        for (int i = 0; i < a.length; i = i + BLOCK_SIZE) {
+            checkProgress(monitor, (double) i / a.length);
+            int to = Math.min(i + BLOCK_SIZE, a.length);
+            sif.evaluate(a, k, i, to);
+            //Depths are converted after calculation, array is used for dependence
+            for (int j = i; j < to; j++) {
+                a[j] = convertMeterToMillimeter(a[j]);
             }
-            dataSIF.add(new DataLine(convertMeterToMillimeter(a), stressIntensityFactor(a, wallThickness, stress)));
-            a = a + depthStep;
         }
+        setData(DEPENDENCE_SIF, new DataSeries(a, k, a.length));
     }
 
     /**
      * Calculation dependence for CCD.
      */
     public void calculateCCD() {
-        dataCCD.clear();
+        calculateCCD(null);
+    }
+
+    /**
+     * Calculation dependence for CCD.
+     * @param monitor monitor of calculation or null
+     */
+    public void calculateCCD(final CalculationMonitor monitor) {
+        switch (calculationMethod) {
+            case METHOD_ADAPTIVE:
+                setData(DEPENDENCE_CCD, createDataCCDAdaptive(monitor));
+                break;
+            case METHOD_QUADRATURE:
+                setData(DEPENDENCE_CCD, createDataCCDQuadrature(monitor));
+                break;
+            default:
+                setData(DEPENDENCE_CCD, createDataCCDEuler(monitor));
+                break;
+        }
+    }
+
+    /**
+     * Calculation dependence for CCD by explicit Euler method.
+     * Depth is linear within substep, so time of reaching critical depth is found exactly.
+     * @param monitor monitor of calculation or null
+     * @return dependence for CCD
+     */
+    private DataSeries createDataCCDEuler(final CalculationMonitor monitor) {
+        DataSeries result = new DataSeries();
+        CrackGrowthKernel kernel = getCrackGrowthKernel();
+        StressIntensityKernel sif = getStressIntensityKernel();
+        double aLimit = getCriticalDepth();
         double v = 0;
         double k = 0;
         double a = initDepth;
         double t = timeBegin;
         double ts = timeStep / timeSubStepCount;
         int i = 0;
+        if (a >= aLimit) {
+            result.add(convertSecondToYear(t), convertMeterToMillimeter(a));
+            return result;
+        }
         while (t <= timeEnd) {
-            if (a > 0.9 * wallThickness) {
-                return;
-            }
             if ((i % timeSubStepCount) == 0) {
-                dataCCD.add(new DataLine(convertSecondToYear(t), convertMeterToMillimeter(a)));
+                checkProgress(monitor, (t - timeBegin) / (timeEnd - timeBegin));
+                result.add(convertSecondToYear(t), convertMeterToMillimeter(a));
+            }
+            k = sif.evaluate(a);
+            v = kernel.evaluate(k);
+            double aNew = a + v * ts;
+            if (aNew >= aLimit) {
+                addCriticalPoint(result, t + (aLimit - a) / v);
+                return result;
             }
-            k = stressIntensityFactor(a, wallThickness, stress);
-            v = crackGrowthRate(k, thresholdSIF, currentDensity, yieldStrength);
-            a = a + v * ts;
+            a = aNew;
             t = t + ts;
             i++;
         }
+        return result;
+    }
+
+    /**
+     * Add point of reaching critical depth to dependence for CCD.
+     * Point is not added if it is beyond time interval.
+     * @param result dependence for CCD
+     * @param t time of reaching critical depth, s
+     */
+    private void addCriticalPoint(final DataSeries result, final double t) {
+        if (t <= timeEnd) {
+            result.add(convertSecondToYear(t), convertMeterToMillimeter(getCriticalDepth()));
+        }
+    }
+
+    /**
+     * Step of Dormand-Prince 5(4) method.
+     * @param kernel crack growth rate for current parameters
+     * @param sif stress intensity factor for current parameters
+     * @param a corrosion crack depth at the beginning of step, m
+     * @param h step, s
+     * @param f crack growth rates at stages of step, m/s; the first is given,
+     * the last is set to rate at the end of step
+     * @return corrosion crack depth at the end of step, m
+     */
+    private static double stepDormandPrince(final CrackGrowthKernel kernel, final StressIntensityKernel sif,
+            final double a, final double h, final double[] f) {
+        f[1] = crackGrowthRate(kernel, sif, a + h * (f[0] / 5));
+        f[2] = crackGrowthRate(kernel, sif, a + h * (3 * f[0] / 40 + 9 * f[1] / 40));
+        f[3] = crackGrowthRate(kernel, sif, a + h * (44 * f[0] / 45 - 56 * f[1] / 15 + 32 * f[2] / 9));
+        f[4] = crackGrowthRate(kernel, sif, a + h * (19372 * f[0] / 6561 - 25360 * f[1] / 2187
+                + 64448 * f[2] / 6561 - 212 * f[3] / 729));
+        f[5] = crackGrowthRate(kernel, sif, a + h * (9017 * f[0] / 3168 - 355 * f[1] / 33
+                + 46732 * f[2] / 5247 + 49 * f[3] / 176 - 5103 * f[4] / 18656));
+        double aNew = a + h * (35 * f[0] / 384 + 500 * f[2] / 1113 + 125 * f[3] / 192
+                - 2187 * f[4] / 6784 + 11 * f[5] / 84);
+        f[6] = crackGrowthRate(kernel, sif, aNew);
+        return aNew;
+    }
+
+    /**
+     * Estimate of local error of step of Dormand-Prince 5(4) method.
+     * @param h step, s
+     * @param f crack growth rates at stages of step, m/s
+     * @return difference between solutions of 5 and 4 order, m
+     */
+    private static double estimateErrorDormandPrince(final double h, final double[] f) {
+        return h * Math.abs(71 * f[0] / 57600 - 71 * f[2] / 16695 + 71 * f[3] / 1920
+                - 17253 * f[4] / 339200 + 22 * f[5] / 525 - f[6] / 40);
+    }
+
+    /**
+     * Step of Dormand-Prince 5(4) method which ends at critical depth.
+     * Length of step is root of depth at the end of step minus critical depth, it is found by Illinois method,
+     * so time of reaching critical depth has the same error as solution of Dormand-Prince method.
+     * Depth at the end of step of given length is not less than critical depth.
+     * @param kernel crack growth rate for current parameters
+     * @param sif stress intensity factor for current parameters
+     * @param a corrosion crack depth at the beginning of step, m
+     * @param h step which reaches critical depth, s
+     * @param aNew corrosion crack depth at the end of step, m
+     * @param aLimit critical depth, m
+     * @param precision allowed error of depth at the end of step, m
+     * @param f crack growth rates at stages of step, m/s; the first is given,
+     * the others are set to rates of returned step
+     * @return step, s
+     */
+    private static double findCrossingStep(final CrackGrowthKernel kernel, final StressIntensityKernel sif,
+            final double a, final double h, final double aNew, final double aLimit,
+            final double precision, final double[] f) {
+        double h0 = 0;
+        double h1 = h;
+        double g0 = a - aLimit;
+        double g1 = aNew - aLimit;
+        double hc = h;
+        int side = 0;
+        for (int i = 0; i < 100; i++) {
+            hc = (h0 * g1 - h1 * g0) / (g1 - g0);
+            double g = stepDormandPrince(kernel, sif, a, hc, f) - aLimit;
+            if ((Math.abs(g) <= precision) || (h1 - h0 <= 1e-15 * h)) {
+                return hc;
+            }
+            if (g < 0) {
+                h0 = hc;
+                g0 = g;
+                if (side == -1) {
+                    g1 = g1 / 2;
+                }
+                side = -1;
+            } else {
+                h1 = hc;
+                g1 = g;
+                if (side == 1) {
+                    g0 = g0 / 2;
+                }
+                side = 1;
+            }
+        }
+        return hc;
+    }
+
+    /**
+     * Calculation crack growth rate for crack depth.
+     * @param kernel crack growth rate for current parameters
+     * @param sif stress intensity factor for current parameters
+     * @param a corrosion crack depth, m
+     * @return crack growth rate, m/s
+     */
+    private static double crackGrowthRate(final CrackGrowthKernel kernel,
+            final StressIntensityKernel sif, final double a) {
+        return kernel.evaluate(sif.evaluate(a));
+    }
+
+    /**
+     * Calculation dependence for CCD by Dormand-Prince 5(4) method.
+     * Step is chosen by estimate of local error only, so flat parts of dependence are passed by large steps,
+     * points of time grid are calculated by continuous extension of method of 4 order inside step.
+     * Step which passes critical depth is replaced by step which ends at critical depth.
+     * @param monitor monitor of calculation or null
+     * @return dependence for CCD
+     */
+    private DataSeries createDataCCDAdaptive(final CalculationMonitor monitor) {
+        DataSeries result = new DataSeries();
+        CrackGrowthKernel kernel = getCrackGrowthKernel();
+        StressIntensityKernel sif = getStressIntensityKernel();
+        double aLimit = getCriticalDepth();
+        double hMin = timeStep * 1e-9;
+        double a = initDepth;
+        double t = timeBegin;
+        double h = timeStep;
+        result.add(convertSecondToYear(t), convertMeterToMillimeter(a));
+        if (a >= aLimit) {
+            return result;
+        }
+        double[] f = new double[7];
+        f[0] = crackGrowthRate(kernel, sif, a);
+        int n = 1;
+        double tOut = timeBegin + timeStep;
+        while (t < timeEnd) {
+            checkProgress(monitor, (t - timeBegin) / (timeEnd - timeBegin));
+            double hs = Math.min(h, timeEnd - t);
+            double aNew = stepDormandPrince(kernel, sif, a, hs, f);
+            double ratio = estimateErrorDormandPrince(hs, f) / (tolerance * Math.max(a, aNew));
+            if (ratio <= 1 || hs <= hMin) {
+                if (Double.isNaN(aNew)) {
+                    return result;
+                }
+                boolean critical = aNew >= aLimit;
+                if (critical) {
+                    //Error of depth in root is much less than allowed error of step
+                    hs = findCrossingStep(kernel, sif, a, hs, aNew, aLimit, 1e-3 * tolerance * aLimit, f);
+                    aNew = stepDormandPrince(kernel, sif, a, hs, f);
+                }
+                double tNew = (hs == timeEnd - t) ? timeEnd : t + hs;
+                //Points of time grid inside step
+                while ((tOut < tNew) || ((tOut == tNew) && !critical)) {
+                    result.add(convertSecondToYear(tOut),
+                            convertMeterToMillimeter(interpolateDormandPrince(a, aNew, hs, f, (tOut - t) / hs)));
+                    n++;
+                    tOut = timeBegin + n * timeStep;
+                }
+                if (critical) {
+                    addCriticalPoint(result, tNew);
+                    return result;
+                }
+                a = aNew;
+                f[0] = f[6];
+                t = tNew;
+                h = hs * Math.min(5.0, 0.9 * Math.pow(Math.max(ratio, 1e-10), -0.2));
+            } else {
+                //Step is rejected, including the case of not a number error
+                h = hs * Math.max(0.2, Math.min(0.9, 0.9 * Math.pow(ratio, -0.2)));
+                if (Double.isNaN(h)) {
+                    h = hs * 0.2;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Corrosion crack depth inside step of Dormand-Prince 5(4) method
+     * by continuous extension of 4 order (Hairer, Norsett, Wanner).
+     * @param a corrosion crack depth at the beginning of step, m
+     * @param aNew corrosion crack depth at the end of step, m
+     * @param h step, s
+     * @param f crack growth rates at stages of step, m/s
+     * @param s part of step from 0 to 1
+     * @return corrosion crack depth, m
+     */
+    private static double interpolateDormandPrince(final double a, final double aNew, final double h,
+            final double[] f, final double s) {
+        double d0 = aNew - a;
+        double d1 = h * f[0] - d0;
+        double d2 = d0 - h * f[6] - d1;
+        double d3 = h * (DENSE_DP[0] * f[0] + DENSE_DP[2] * f[2] + DENSE_DP[3] * f[3]
+                + DENSE_DP[4] * f[4] + DENSE_DP[5] * f[5] + DENSE_DP[6] * f[6]);
+        double s1 = 1 - s;
+        return a + s * (d0 + s1 * (d1 + s * (d2 + s1 * d3)));
+    }
+
+    /**
+     * Calculation dependence for CCD by quadrature over crack depth.
+     * Time of growth t(a) is integral of 1/v from initial depth to critical depth,
+     * it is calculated by Gauss-Legendre formula on every interval of depth grid.
+     * Dependence a(t) is obtained by inverse cubic Hermite interpolation on time grid.
+     * Time of reaching critical depth is time in the last node of depth grid.
+     * @param monitor monitor of calculation or null
+     * @return dependence for CCD
+     */
+    private DataSeries createDataCCDQuadrature(final CalculationMonitor monitor) {
+        DataSeries result = new DataSeries();
+        CrackGrowthKernel kernel = getCrackGrowthKernel();
+        StressIntensityKernel sif = getStressIntensityKernel();
+        double aLimit = getCriticalDepth();
+        if (initDepth >= aLimit) {
+            result.add(convertSecondToYear(timeBegin), convertMeterToMillimeter(initDepth));
+            return result;
+        }
+        int n = depthNodeCount;
+        double h = (aLimit - initDepth) / n;
+        //Depth, time and crack growth rate in nodes of depth grid
+        double[] ad = new double[n + 1];
+        double[] td = new double[n + 1];
+        double[] vd = new double[n + 1];
+        ad[0] = initDepth;
+        td[0] = 0;
+        vd[0] = crackGrowthRate(kernel, sif, initDepth);
+        int m = 0;
+        if (vd[0] > 0) {
+            //Three Gauss nodes and end of every interval
+            double g = h * Math.sqrt(0.6) / 2;
+            double[] nodes = new double[4 * n];
+            for (int j = 1; j <= n; j++) {
+                double c = initDepth + (j - 0.5) * h;
+                nodes[4 * j - 4] = c - g;
+                nodes[4 * j - 3] = c;
+                nodes[4 * j - 2] = c + g;
+                nodes[4 * j - 1] = initDepth + j * h;
+            }
+            double[] stressIF = new double[nodes.length];
+            double[] rates = new double[nodes.length];
+            for (int i = 0; i < nodes.length; i = i + BLOCK_SIZE) {
+                checkProgress(monitor, (double) i / nodes.length);
+                int to = Math.min(i + BLOCK_SIZE, nodes.length);
+                sif.evaluate(nodes, stressIF, i, to);
+                kernel.evaluate(stressIF, rates, i, to);
+            }
+            for (int j = 1; j <= n; j++) {
+                ad[j] = nodes[4 * j - 1];
+                td[j] = td[j - 1] + h * (5 / rates[4 * j - 4] + 8 / rates[4 * j - 3] + 5 / rates[4 * j - 2]) / 18;
+                vd[j] = rates[4 * j - 1];
+                if (!(td[j] > td[j - 1]) || Double.isInfinite(td[j])) {
+                    break;
+                }
+                m = j;
+            }
+        }
+        //Interpolation on time grid
+        double tOut = timeBegin;
+        int i = 0;
+        int j = 0;
+        while (tOut <= timeEnd) {
+            double tau = tOut - timeBegin;
+            double a;
+            if (m == 0) {
+                //Crack does not grow
+                a = initDepth;
+            } else {
+                while ((j < m) && (td[j + 1] < tau)) {
+                    j++;
+                }
+                if (j == m) {
+                    break;
+                }
+                double dt = td[j + 1] - td[j];
+                double s = (tau - td[j]) / dt;
+                double s2 = s * s;
+                double s3 = s2 * s;
+                a = (2 * s3 - 3 * s2 + 1) * ad[j] + (s3 - 2 * s2 + s) * dt * vd[j]
+                        + (3 * s2 - 2 * s3) * ad[j + 1] + (s3 - s2) * dt * vd[j + 1];
+            }
+            result.add(convertSecondToYear(tOut), convertMeterToMillimeter(a));
+            i++;
+            tOut = timeBegin + i * timeStep;
+        }
+        if (m == n) {
+            addCriticalPoint(result, timeBegin + td[n]);
+        }
+        return result;
     }
 
     /**
@@ -451,6 +958,22 @@ public class DataSet {
         fileName = aFileName;
     }
 
+    /**
+     * Show dependences on charts.
+     * @return show dependences on charts
+     */
+    public boolean isShowOnChart() {
+        return showOnChart;
+    }
+
+    /**
+     * Show dependences on charts.
+     * @param aShowOnChart show dependences on charts
+     */
+    public void setShowOnChart(final boolean aShowOnChart) {
+        showOnChart = aShowOnChart;
+    }
+
     /**
      * Anodic current density.
      * @return anodic current density
@@ -464,7 +987,11 @@ public class DataSet {
      * @param aCurrentDensity anodic current density
      */
     public void setCurrentDensity(final double aCurrentDensity) {
-        currentDensity = aCurrentDensity;
+        if (differs(currentDensity, aCurrentDensity)) {
+            currentDensity = aCurrentDensity;
+            crackGrowthKernel = null;
+            invalidate(AFFECT_CGR | AFFECT_CCD);
+        }
     }
 
     /**
@@ -480,7 +1007,11 @@ public class DataSet {
      * @param aYieldStrength yield strength
      */
     public void setYieldStrength(final double aYieldStrength) {
-        yieldStrength = aYieldStrength;
+        if (differs(yieldStrength, aYieldStrength)) {
+            yieldStrength = aYieldStrength;
+            crackGrowthKernel = null;
+            invalidate(AFFECT_CGR | AFFECT_CCD);
+        }
     }
 
    /**
@@ -496,7 +1027,11 @@ public class DataSet {
      * @param aThresholdSIF threshold stress intensity factor
      */
     public void setThresholdSIF(final double aThresholdSIF) {
-        thresholdSIF = aThresholdSIF;
+        if (differs(thresholdSIF, aThresholdSIF)) {
+            thresholdSIF = aThresholdSIF;
+            crackGrowthKernel = null;
+            invalidate(AFFECT_CGR | AFFECT_CCD);
+        }
     }
 
     /**
@@ -512,7 +1047,11 @@ public class DataSet {
      * @param aWallThickness wall thickness
      */
     public void setWallThickness(final double aWallThickness) {
-        wallThickness = aWallThickness;
+        if (differs(wallThickness, aWallThickness)) {
+            wallThickness = aWallThickness;
+            stressIntensityKernel = null;
+            invalidate(AFFECT_SIF | AFFECT_CCD);
+        }
     }
 
     /**
@@ -528,7 +1067,11 @@ public class DataSet {
      * @param aStress stress
      */
     public void setStress(final double aStress) {
-        stress = aStress;
+        if (differs(stress, aStress)) {
+            stress = aStress;
+            stressIntensityKernel = null;
+            invalidate(AFFECT_SIF | AFFECT_CCD);
+        }
     }
 
     /**
@@ -544,7 +1087,10 @@ public class DataSet {
      * @param aInitDepth initial depth of crack
      */
     public void setInitDepth(final double aInitDepth) {
-        initDepth = aInitDepth;
+        if (differs(initDepth, aInitDepth)) {
+            initDepth = aInitDepth;
+            invalidate(AFFECT_CCD);
+        }
     }
 
     /**
@@ -560,7 +1106,10 @@ public class DataSet {
      * @param aTimeBegin begin of time interval
      */
     public void setTimeBegin(final double aTimeBegin) {
-        timeBegin = aTimeBegin;
+        if (differs(timeBegin, aTimeBegin)) {
+            timeBegin = aTimeBegin;
+            invalidate(AFFECT_CCD);
+        }
     }
 
     /**
@@ -576,7 +1125,10 @@ public class DataSet {
      * @param aTimeEnd end of time interval
      */
     public void setTimeEnd(final double aTimeEnd) {
-        timeEnd = aTimeEnd;
+        if (differs(timeEnd, aTimeEnd)) {
+            timeEnd = aTimeEnd;
+            invalidate(AFFECT_CCD);
+        }
     }
 
     /**
@@ -592,7 +1144,10 @@ public class DataSet {
      * @param aTimeStep step of time interval
      */
     public void setTimeStep(final double aTimeStep) {
-        timeStep = aTimeStep;
+        if (differs(timeStep, aTimeStep)) {
+            timeStep = aTimeStep;
+            invalidate(AFFECT_CCD);
+        }
     }
 
     /**
@@ -608,7 +1163,10 @@ public class DataSet {
      * @param aDepthBegin begin of depth interval
      */
     public void setDepthBegin(final double aDepthBegin) {
-        depthBegin = aDepthBegin;
+        if (differs(depthBegin, aDepthBegin)) {
+            depthBegin = aDepthBegin;
+            invalidate(AFFECT_SIF);
+        }
     }
 
     /**
@@ -624,7 +1182,10 @@ public class DataSet {
      * @param aDepthEnd end of depth interval
      */
     public void setDepthEnd(final double aDepthEnd) {
-        depthEnd = aDepthEnd;
+        if (differs(depthEnd, aDepthEnd)) {
+            depthEnd = aDepthEnd;
+            invalidate(AFFECT_SIF);
+        }
     }
 
     /**
@@ -640,7 +1201,10 @@ public class DataSet {
      * @param aDepthStep step of depth interval
      */
     public void setDepthStep(final double aDepthStep) {
-        depthStep = aDepthStep;
+        if (differs(depthStep, aDepthStep)) {
+            depthStep = aDepthStep;
+            invalidate(AFFECT_SIF);
+        }
     }
 
     /**
@@ -656,7 +1220,10 @@ public class DataSet {
      * @param aStressIFBegin begin of stress intensity factor interval
      */
     public void setStressIFBegin(final double aStressIFBegin) {
-        stressIFBegin = aStressIFBegin;
+        if (differs(stressIFBegin, aStressIFBegin)) {
+            stressIFBegin = aStressIFBegin;
+            invalidate(AFFECT_CGR);
+        }
     }
 
     /**
@@ -672,7 +1239,10 @@ public class DataSet {
      * @param aStressIFEnd end of stress intensity factor interval
      */
     public void setStressIFEnd(final double aStressIFEnd) {
-        stressIFEnd = aStressIFEnd;
+        if (differs(stressIFEnd, aStressIFEnd)) {
+            stressIFEnd = aStressIFEnd;
+            invalidate(AFFECT_CGR);
+        }
     }
 
     /**
@@ -688,7 +1258,94 @@ public class DataSet {
      * @param aStressIFStep step of stress intensity factor interval
      */
     public void setStressIFStep(final double aStressIFStep) {
-        stressIFStep = aStressIFStep;
+        if (differs(stressIFStep, aStressIFStep)) {
+            stressIFStep = aStressIFStep;
+            invalidate(AFFECT_CGR);
+        }
+    }
+
+    /**
+     * Method of CCD calculation.
+     * @return method of CCD calculation
+     */
+    public int getCalculationMethod() {
+        return calculationMethod;
+    }
+
+    /**
+     * Method of CCD calculation.
+     * @param aCalculationMethod method of CCD calculation
+     */
+    public void setCalculationMethod(final int aCalculationMethod) {
+        if (calculationMethod != aCalculationMethod) {
+            calculationMethod = aCalculationMethod;
+            invalidate(AFFECT_CCD);
+        }
+    }
+
+    /**
+     * Relative tolerance of adaptive CCD calculation.
+     * @return relative tolerance of adaptive CCD calculation
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Relative tolerance of adaptive CCD calculation.
+     * @param aTolerance relative tolerance of adaptive CCD calculation
+     */
+    public void setTolerance(final double aTolerance) {
+        if (differs(tolerance, aTolerance)) {
+            tolerance = aTolerance;
+            invalidate(AFFECT_CCD);
+        }
+    }
+
+    /**
+     * Model of SIF calculation.
+     * @return model of SIF calculation (SIF_EXACT or SIF_TABULATED)
+     */
+    public int getSifModel() {
+        return sifModel;
+    }
+
+    /**
+     * Model of SIF calculation.
+     * @param aSifModel model of SIF calculation (SIF_EXACT or SIF_TABULATED)
+     */
+    public void setSifModel(final int aSifModel) {
+        if (sifModel != aSifModel) {
+            sifModel = aSifModel;
+            stressIntensityKernel = null;
+            invalidate(AFFECT_SIF | AFFECT_CCD);
+        }
+    }
+
+    /**
+     * Stress intensity factor for current parameters.
+     * @return stress intensity factor for current parameters
+     */
+    public StressIntensityKernel getStressIntensityKernel() {
+        if (stressIntensityKernel == null) {
+            if (sifModel == SIF_TABULATED) {
+                stressIntensityKernel = new TabulatedStressIntensityKernel(wallThickness, stress);
+            } else {
+                stressIntensityKernel = new StressIntensityKernel(wallThickness, stress);
+            }
+        }
+        return stressIntensityKernel;
+    }
+
+    /**
+     * Crack growth rate for current parameters.
+     * @return crack growth rate for current parameters
+     */
+    public CrackGrowthKernel getCrackGrowthKernel() {
+        if (crackGrowthKernel == null) {
+            crackGrowthKernel = new CrackGrowthKernel(thresholdSIF, currentDensity, yieldStrength);
+        }
+        return crackGrowthKernel;
     }
 
     /**
@@ -703,7 +1360,7 @@ public class DataSet {
      * Dependence for CGR.
      * @return dependence for CGR
      */
-    public ArrayList<DataLine> getDataCGR() {
+    public DataSeries getDataCGR() {
         return dataCGR;
     }
 
@@ -711,7 +1368,7 @@ public class DataSet {
      * Dependence for SIF.
      * @return dependence for SIF
      */
-    public ArrayList<DataLine> getDataSIF() {
+    public DataSeries getDataSIF() {
         return dataSIF;
     }
 
@@ -719,10 +1376,142 @@ public class DataSet {
      * Dependence for CCD.
      * @return dependence for CCD
      */
-    public ArrayList<DataLine> getDataCCD() {
+    public DataSeries getDataCCD() {
         return dataCCD;
     }
     
+    /**
+     * Dependence.
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @return dependence
+     */
+    public DataSeries getData(final int dependence) {
+        switch (dependence) {
+            case DEPENDENCE_CGR:
+                return dataCGR;
+            case DEPENDENCE_SIF:
+                return dataSIF;
+            default:
+                return dataCCD;
+        }
+    }
+
+    /**
+     * Dependence.
+     * Dependence is considered to correspond to current parameters.
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @param aData dependence
+     */
+    public void setData(final int dependence, final DataSeries aData) {
+        switch (dependence) {
+            case DEPENDENCE_CGR:
+                dataCGR = aData;
+                break;
+            case DEPENDENCE_SIF:
+                dataSIF = aData;
+                break;
+            default:
+                dataCCD = aData;
+                break;
+        }
+        stale[dependence] = false;
+    }
+
+    /**
+     * Dependence does not correspond to current parameters and must be recalculated.
+     * @param dependence dependence (DEPENDENCE_CGR, DEPENDENCE_SIF or DEPENDENCE_CCD)
+     * @return true if dependence is stale
+     */
+    public boolean isStale(final int dependence) {
+        return stale[dependence];
+    }
+
+    /**
+     * Mark dependences affected by change of parameter as stale.
+     * @param affected affected dependences (sum of AFFECT_CGR, AFFECT_SIF and AFFECT_CCD)
+     */
+    private void invalidate(final int affected) {
+        for (int i = DEPENDENCE_CGR; i <= DEPENDENCE_CCD; i++) {
+            if ((affected & (1 << i)) != 0) {
+                stale[i] = true;
+            }
+        }
+    }
+
+    /**
+     * Difference of values of parameter.
+     * Values differing by error of rounding are considered equal,
+     * so conversion of units in dialog does not make dependences stale.
+     * @param oldValue old value
+     * @param newValue new value
+     * @return true if values are different
+     */
+    private static boolean differs(final double oldValue, final double newValue) {
+        return !(Math.abs(newValue - oldValue) <= 1e-12 * Math.max(Math.abs(oldValue), Math.abs(newValue)));
+    }
+
+    /**
+     * Copy of parameter set.
+     * Calculated dependences are shared with copy, they are not changed after calculation.
+     * @return copy of parameter set
+     */
+    public DataSet copy() {
+        DataSet o = new DataSet();
+        o.name = name;
+        o.fileName = fileName;
+        o.showOnChart = showOnChart;
+        o.currentDensity = currentDensity;
+        o.yieldStrength = yieldStrength;
+        o.thresholdSIF = thresholdSIF;
+        o.wallThickness = wallThickness;
+        o.initDepth = initDepth;
+        o.stress = stress;
+        o.timeBegin = timeBegin;
+        o.timeEnd = timeEnd;
+        o.timeStep = timeStep;
+        o.depthBegin = depthBegin;
+        o.depthEnd = depthEnd;
+        o.depthStep = depthStep;
+        o.stressIFBegin = stressIFBegin;
+        o.stressIFEnd = stressIFEnd;
+        o.stressIFStep = stressIFStep;
+        o.timeSubStepCount = timeSubStepCount;
+        o.depthNodeCount = depthNodeCount;
+        o.calculationMethod = calculationMethod;
+        o.tolerance = tolerance;
+        o.sifModel = sifModel;
+        o.dataCGR = dataCGR;
+        o.dataSIF = dataSIF;
+        o.dataCCD = dataCCD;
+        o.stale = stale.clone();
+        return o;
+    }
+
+    /**
+     * Critical crack depth, calculation of dependence for CCD is stopped at this depth.
+     * @return critical depth (0.9 of wall thickness), m
+     */
+    public double getCriticalDepth() {
+        return 0.9 * wallThickness;
+    }
+
+    /**
+     * Time of reaching critical crack depth.
+     * The last point of calculated dependence for CCD is point of reaching critical depth.
+     * @return time, year (NaN if critical depth is not reached till the end of time interval
+     * or dependence for CCD is not calculated)
+     */
+    public double getCriticalTime() {
+        if (stale[DEPENDENCE_CCD] || dataCCD.isEmpty()) {
+            return Double.NaN;
+        }
+        int i = dataCCD.size() - 1;
+        if (dataCCD.getY(i) < convertMeterToMillimeter(getCriticalDepth())) {
+            return Double.NaN;
+        }
+        return dataCCD.getX(i);
+    }
+
     /**
      * Convert value in second to value in year.
      * @param value value in second
@@ -0,0 +1,185 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+/**
+ * Parser of decimal numbers from bytes of text in ASCII without creation of strings.
+ * Decimal separator is point or comma, exponent is optional.
+ * Numbers with up to 15 significant digits and small exponent are calculated
+ * by one exact multiplication or division, other numbers are parsed by Double.parseDouble,
+ * so result is always the same as result of Double.parseDouble.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public final class DecimalParser {
+
+    /**
+     * Maximum count of significant digits for exact calculation.
+     */
+    private static final int MAX_DIGITS = 15;
+    /**
+     * Powers of ten which are exact double values.
+     */
+    private static final double[] POWERS = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * Constructor.
+     */
+    private DecimalParser() {
+    }
+
+    /**
+     * Check of space or control character, they are trimmed as by String.trim().
+     * Bytes of multibyte characters of UTF-8 are negative and are not spaces.
+     * @param b byte
+     * @return true if byte is space or control character
+     */
+    public static boolean isSpace(final byte b) {
+        return (b >= 0) && (b <= ' ');
+    }
+
+    /**
+     * Check of empty value or absent value "-" after trimming of spaces.
+     * @param buffer bytes of text
+     * @param from first index
+     * @param to index after the last one
+     * @return true if value is empty or absent
+     */
+    public static boolean isEmpty(final byte[] buffer, final int from, final int to) {
+        int a = from;
+        int b = to;
+        while ((a < b) && isSpace(buffer[a])) {
+            a++;
+        }
+        while ((b > a) && isSpace(buffer[b - 1])) {
+            b--;
+        }
+        return (a == b) || ((b - a == 1) && (buffer[a] == '-'));
+    }
+
+    /**
+     * Parse double value, spaces around number are skipped.
+     * @param buffer bytes of text
+     * @param from first index
+     * @param to index after the last one
+     * @return double value
+     * @throws NumberFormatException wrong number
+     */
+    public static double parseDouble(final byte[] buffer, final int from, final int to) {
+        int a = from;
+        int b = to;
+        while ((a < b) && isSpace(buffer[a])) {
+            a++;
+        }
+        while ((b > a) && isSpace(buffer[b - 1])) {
+            b--;
+        }
+        int i = a;
+        boolean negative = false;
+        if ((i < b) && ((buffer[i] == '-') || (buffer[i] == '+'))) {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        boolean anyDigit = false;
+        for (; i < b; i++) {
+            byte c = buffer[i];
+            if ((c >= '0') && (c <= '9')) {
+                anyDigit = true;
+                if (point) {
+                    scale--;
+                }
+                //Leading zeros are not significant
+                if ((mantissa != 0) || (c != '0')) {
+                    digits++;
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+            } else if (((c == '.') || (c == ',')) && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (i < b) {
+            if (!anyDigit || ((buffer[i] != 'e') && (buffer[i] != 'E'))) {
+                return parseSlow(buffer, a, b);
+            }
+            i++;
+            boolean negativeExponent = false;
+            if ((i < b) && ((buffer[i] == '-') || (buffer[i] == '+'))) {
+                negativeExponent = buffer[i] == '-';
+                i++;
+            }
+            int exponent = 0;
+            int start = i;
+            for (; (i < b) && (exponent < 1000); i++) {
+                byte c = buffer[i];
+                if ((c < '0') || (c > '9')) {
+                    break;
+                }
+                exponent = exponent * 10 + (c - '0');
+            }
+            if ((i < b) || (i == start)) {
+                return parseSlow(buffer, a, b);
+            }
+            scale = scale + (negativeExponent ? -exponent : exponent);
+        }
+        if (!anyDigit || (digits > MAX_DIGITS)) {
+            return parseSlow(buffer, a, b);
+        }
+        //Mantissa and power of ten are exact, so result is rounded once
+        double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if ((scale >= 0) && (scale < POWERS.length)) {
+            value = mantissa * POWERS[scale];
+        } else if ((scale < 0) && (-scale < POWERS.length)) {
+            value = mantissa / POWERS[-scale];
+        } else {
+            return parseSlow(buffer, a, b);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parse double value by Double.parseDouble.
+     * @param buffer bytes of text
+     * @param from first index
+     * @param to index after the last one
+     * @return double value
+     * @throws NumberFormatException wrong number
+     */
+    private static double parseSlow(final byte[] buffer, final int from, final int to) {
+        char[] c = new char[to - from];
+        for (int i = 0; i < c.length; i++) {
+            char o = (char) (buffer[from + i] & 0xFF);
+            c[i] = (o == ',') ? '.' : o;
+        }
+        return Double.parseDouble(new String(c));
+    }
+
+    /**
+     * Parse integer value, spaces around number are skipped.
+     * @param buffer bytes of text
+     * @param from first index
+     * @param to index after the last one
+     * @return integer value
+     * @throws NumberFormatException wrong number
+     */
+    public static int parseInteger(final byte[] buffer, final int from, final int to) {
+        int a = from;
+        int b = to;
+        while ((a < b) && isSpace(buffer[a])) {
+            a++;
+        }
+        while ((b > a) && isSpace(buffer[b - 1])) {
+            b--;
+        }
+        return Integer.parseInt(new String(buffer, a, b - a));
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Cache of calculated dependences in files of local directory.
+ * Name of file contains version of model and hash of parameters of calculation,
+ * file contains all parameters of calculation, so collision of hash codes is detected.
+ * Version of model is checksum of compiled classes of model,
+ * so files of previous versions are not used after change of model and are deleted.
+ * Files are deleted in order of least recent use, when total size exceeds limit.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class DiskResultCache {
+
+    /**
+     * Default limit of size of directory, byte.
+     */
+    public static final long DEFAULT_SIZE_LIMIT = 256L << 20;
+    /**
+     * Signature of file.
+     */
+    private static final int MAGIC = 0x53434352;
+    /**
+     * Version of format of file.
+     */
+    private static final int FORMAT_VERSION = 1;
+    /**
+     * Extension of file.
+     */
+    private static final String EXTENSION = ".bin";
+    /**
+     * Name of file of cache: version of model and hash of parameters.
+     * Other files of directory are never deleted.
+     */
+    private static final Pattern FILE_NAME = Pattern.compile("^[0-9a-f]{8}-[0-9a-f]{16}\\.bin$");
+    /**
+     * Classes of model, their change makes cached dependences invalid.
+     */
+    private static final Class<?>[] MODEL_CLASSES = {DataSet.class, CrackGrowthKernel.class,
+        StressIntensityKernel.class, TabulatedStressIntensityKernel.class};
+    /**
+     * Version of model.
+     */
+    private static final String MODEL_VERSION = calculateModelVersion();
+
+    /**
+     * Directory of files.
+     */
+    private final File directory;
+    /**
+     * Limit of size of directory, byte.
+     */
+    private final long sizeLimit;
+    /**
+     * Estimate of total size of files of cache not less than real size, byte, or -1 if it is unknown.
+     */
+    private long totalSize;
+
+    /**
+     * Constructor.
+     * @param aDirectory directory of files
+     * @param aSizeLimit limit of size of directory, byte
+     */
+    public DiskResultCache(final File aDirectory, final long aSizeLimit) {
+        directory = aDirectory;
+        sizeLimit = aSizeLimit;
+        totalSize = -1;
+    }
+
+    /**
+     * Default directory of files in home directory of user.
+     * @return directory
+     */
+    public static File getDefaultDirectory() {
+        return new File(new File(System.getProperty("user.home"), ".sccmodeller"), "cache");
+    }
+
+    /**
+     * Version of model.
+     * @return version of model
+     */
+    public static String getModelVersion() {
+        return MODEL_VERSION;
+    }
+
+    /**
+     * Checksum of compiled classes of model.
+     * @return checksum
+     */
+    private static String calculateModelVersion() {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        for (Class<?> c : MODEL_CLASSES) {
+            InputStream in = c.getResourceAsStream(c.getSimpleName() + ".class");
+            if (in == null) {
+                //Classes are not available, cached dependences can not be checked
+                return null;
+            }
+            try {
+                int n;
+                while ((n = in.read(buffer)) > 0) {
+                    crc.update(buffer, 0, n);
+                }
+            } catch (IOException ex) {
+                return null;
+            } finally {
+                try {
+                    in.close();
+                } catch (IOException ex) {
+                    //Nothing to do
+                }
+            }
+        }
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * File of dependence.
+     * @param key key of dependence
+     * @return file
+     */
+    private File getFile(final ResultKey key) {
+        return new File(directory, MODEL_VERSION + "-" + String.format("%016x", key.getFingerprint()) + EXTENSION);
+    }
+
+    /**
+     * Cached dependence.
+     * @param key key of dependence
+     * @return dependence or null if it is absent or can not be read
+     */
+    public DataSeries get(final ResultKey key) {
+        if (MODEL_VERSION == null) {
+            return null;
+        }
+        File file = getFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT_VERSION)
+                    || !MODEL_VERSION.equals(in.readUTF()) || (in.readInt() != key.getDependence())) {
+                return null;
+            }
+            int n = in.readInt();
+            if (n != key.getParameterCount()) {
+                return null;
+            }
+            for (int i = 0; i < n; i++) {
+                if (in.readLong() != key.getParameterBits(i)) {
+                    return null;
+                }
+            }
+            int size = in.readInt();
+            if ((size < 0) || (size > file.length() / 16)) {
+                return null;
+            }
+            DataSeries o = new DataSeries(size);
+            for (int i = 0; i < size; i++) {
+                double x = in.readDouble();
+                o.add(x, in.readDouble());
+            }
+            in.close();
+            in = null;
+            //Time of modification is time of last use
+            file.setLastModified(System.currentTimeMillis());
+            return o;
+        } catch (IOException ex) {
+            return null;
+        } finally {
+            close(in);
+        }
+    }
+
+    /**
+     * Put dependence to cache.
+     * File is written under temporary name and renamed, so other threads do not read incomplete file.
+     * Errors of writing are ignored, because dependence can be calculated again.
+     * @param key key of dependence
+     * @param value dependence
+     */
+    public void put(final ResultKey key, final DataSeries value) {
+        if (MODEL_VERSION == null) {
+            return;
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            return;
+        }
+        File file = getFile(key);
+        File temp = new File(directory, file.getName() + "." + Thread.currentThread().getId() + ".tmp");
+        DataOutputStream out = null;
+        boolean written = false;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(MODEL_VERSION);
+            out.writeInt(key.getDependence());
+            out.writeInt(key.getParameterCount());
+            for (int i = 0; i < key.getParameterCount(); i++) {
+                out.writeLong(key.getParameterBits(i));
+            }
+            out.writeInt(value.size());
+            for (int i = 0; i < value.size(); i++) {
+                out.writeDouble(value.getX(i));
+                out.writeDouble(value.getY(i));
+            }
+            out.close();
+            out = null;
+            written = true;
+        } catch (IOException ex) {
+            //Dependence is not cached
+        } finally {
+            close(out);
+        }
+        if (!written) {
+            temp.delete();
+            return;
+        }
+        if (!temp.renameTo(file)) {
+            file.delete();
+            if (!temp.renameTo(file)) {
+                temp.delete();
+                return;
+            }
+        }
+        addSize(file.length());
+    }
+
+    /**
+     * Add size of written file to total size, directory is scanned only when total size exceeds limit.
+     * Size of replaced file is not subtracted, so estimate is not less than real size.
+     * @param length size of written file, byte
+     */
+    private synchronized void addSize(final long length) {
+        if (totalSize >= 0) {
+            totalSize = totalSize + length;
+        }
+        if ((totalSize < 0) || (totalSize > sizeLimit)) {
+            evict();
+        }
+    }
+
+    /**
+     * Check of name of file of cache.
+     * @param name name of file
+     * @return true if file is file of cache of any version of model
+     */
+    private static boolean isCacheFile(final String name) {
+        return FILE_NAME.matcher(name).matches();
+    }
+
+    /**
+     * Delete files of previous versions of model
+     * and least recently used files till size of directory is within limit.
+     * Only files with names of files of cache are deleted.
+     */
+    public synchronized void evict() {
+        File[] list = directory.listFiles();
+        if (list == null) {
+            return;
+        }
+        //Times and sizes are read once, because other threads change time of use of files
+        final File[] files = new File[list.length];
+        final long[] times = new long[list.length];
+        long[] lengths = new long[list.length];
+        int n = 0;
+        long size = 0;
+        for (File f : list) {
+            String name = f.getName();
+            if (!isCacheFile(name)) {
+                continue;
+            }
+            if (!name.startsWith(MODEL_VERSION + "-")) {
+                f.delete();
+                continue;
+            }
+            files[n] = f;
+            times[n] = f.lastModified();
+            lengths[n] = f.length();
+            size = size + lengths[n];
+            n++;
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = Integer.valueOf(i);
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            public int compare(final Integer o1, final Integer o2) {
+                long t1 = times[o1.intValue()];
+                long t2 = times[o2.intValue()];
+                return (t1 < t2) ? -1 : ((t1 == t2) ? 0 : 1);
+            }
+        });
+        for (int i = 0; (i < n) && (size > sizeLimit); i++) {
+            int k = order[i].intValue();
+            if (files[k].delete()) {
+                size = size - lengths[k];
+            }
+        }
+        totalSize = size;
+    }
+
+    /**
+     * Delete all files of cache.
+     */
+    public synchronized void clear() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File f : files) {
+            if (isCacheFile(f.getName())) {
+                f.delete();
+            }
+        }
+        totalSize = 0;
+    }
+
+    /**
+     * Close stream without exception.
+     * @param stream stream or null
+     */
+    private static void close(final Closeable stream) {
+        if (stream == null) {
+            return;
+        }
+        try {
+            stream.close();
+        } catch (IOException ex) {
+            //Nothing to do
+        }
+    }
+}
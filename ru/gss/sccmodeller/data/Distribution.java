@@ -0,0 +1,141 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.util.SplittableRandom;
+
+/**
+ * Probability distribution of model parameter.
+ * Random distributions are truncated at zero: values which are not positive are drawn again,
+ * because all parameters of model are positive.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class Distribution {
+
+    /**
+     * Fixed value.
+     */
+    public static final int TYPE_FIXED = 0;
+    /**
+     * Uniform distribution.
+     */
+    public static final int TYPE_UNIFORM = 1;
+    /**
+     * Normal distribution.
+     */
+    public static final int TYPE_NORMAL = 2;
+    /**
+     * Lognormal distribution.
+     */
+    public static final int TYPE_LOGNORMAL = 3;
+
+    /**
+     * Type of distribution.
+     */
+    private final int type;
+    /**
+     * First parameter of distribution.
+     */
+    private final double a;
+    /**
+     * Second parameter of distribution.
+     */
+    private final double b;
+
+    /**
+     * Constructor.
+     * Parameters are value for fixed value, minimum and maximum for uniform distribution,
+     * mean and standard deviation for normal and lognormal distributions.
+     * Uniform distribution with negative minimum is taken from zero to maximum.
+     * @param aType type of distribution
+     * @param first first parameter of distribution
+     * @param second second parameter of distribution
+     */
+    public Distribution(final int aType, final double first, final double second) {
+        type = aType;
+        switch (type) {
+            case TYPE_FIXED:
+                if (first < 0) {
+                    throw new IllegalArgumentException("Значение не должно быть отрицательным");
+                }
+                a = first;
+                b = 0;
+                break;
+            case TYPE_UNIFORM:
+                if (!(second > 0) || !(first <= second)) {
+                    throw new IllegalArgumentException("Максимум равномерного распределения"
+                            + " должен быть положительным и не меньше минимума");
+                }
+                a = Math.max(first, 0);
+                b = second - a;
+                break;
+            case TYPE_NORMAL:
+                //At least half of values is positive, so values are drawn again not often
+                if (!(first > 0) || !(second >= 0)) {
+                    throw new IllegalArgumentException("Среднее значение нормального распределения"
+                            + " должно быть положительным, стандартное отклонение - неотрицательным");
+                }
+                a = first;
+                b = second;
+                break;
+            case TYPE_LOGNORMAL:
+                if (!(first > 0) || !(second >= 0)) {
+                    throw new IllegalArgumentException("Среднее значение логнормального распределения"
+                            + " должно быть положительным, стандартное отклонение - неотрицательным");
+                }
+                //Parameters of normal distribution of logarithm
+                b = Math.sqrt(Math.log(1 + (second / first) * (second / first)));
+                a = Math.log(first) - b * b / 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Неизвестный тип распределения " + aType);
+        }
+    }
+
+    /**
+     * Type of distribution.
+     * @return type of distribution
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Random value.
+     * @param random generator of random numbers
+     * @return random value
+     */
+    public double sample(final SplittableRandom random) {
+        if (type == TYPE_FIXED) {
+            return a;
+        }
+        double value;
+        do {
+            switch (type) {
+                case TYPE_UNIFORM:
+                    value = a + b * random.nextDouble();
+                    break;
+                case TYPE_NORMAL:
+                    value = a + b * gaussian(random);
+                    break;
+                default:
+                    value = Math.exp(a + b * gaussian(random));
+                    break;
+            }
+        } while (!(value > 0));
+        return value;
+    }
+
+    /**
+     * Random value of standard normal distribution by Box-Muller method.
+     * @param random generator of random numbers
+     * @return random value
+     */
+    private static double gaussian(final SplittableRandom random) {
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+}
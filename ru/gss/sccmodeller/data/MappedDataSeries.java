@@ -0,0 +1,150 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+/**
+ * Dependence for CCD stored in record of memory-mapped file.
+ * Points are read from file when they are requested, dependence can not be changed.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class MappedDataSeries extends DataSeries {
+
+    /**
+     * Store of dependences.
+     */
+    private final MappedResultStore store;
+    /**
+     * Index of record.
+     */
+    private final long index;
+    /**
+     * Count of points.
+     */
+    private final int size;
+
+    /**
+     * Constructor.
+     * @param aStore store of dependences
+     * @param aIndex index of record
+     * @param aSize count of points
+     */
+    MappedDataSeries(final MappedResultStore aStore, final long aIndex, final int aSize) {
+        super(1);
+        store = aStore;
+        index = aIndex;
+        size = aSize;
+    }
+
+    /**
+     * Store of dependences.
+     * @return store of dependences
+     */
+    MappedResultStore getStore() {
+        return store;
+    }
+
+    /**
+     * Add point is not supported.
+     * @param aX value x
+     * @param aY value y
+     */
+    @Override
+    public void add(final double aX, final double aY) {
+        throw new UnsupportedOperationException("Зависимость из файла не может быть изменена");
+    }
+
+    /**
+     * Delete all points is not supported.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Зависимость из файла не может быть изменена");
+    }
+
+    /**
+     * Count of points.
+     * @return count of points
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Absence of points.
+     * @return true if there are no points
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Approximate size of dependence in memory, points are not kept in memory.
+     * @return size, byte
+     */
+    @Override
+    public long getMemorySize() {
+        return 64;
+    }
+
+    /**
+     * Value x.
+     * @param aIndex index of point
+     * @return value x
+     */
+    @Override
+    public double getX(final int aIndex) {
+        checkIndex(aIndex);
+        return store.getX(index, aIndex);
+    }
+
+    /**
+     * Value y.
+     * @param aIndex index of point
+     * @return value y
+     */
+    @Override
+    public double getY(final int aIndex) {
+        checkIndex(aIndex);
+        return store.getY(index, aIndex);
+    }
+
+    /**
+     * Values x read from file.
+     * @return array of values x
+     */
+    @Override
+    double[] getXArray() {
+        double[] o = new double[size];
+        for (int i = 0; i < size; i++) {
+            o[i] = store.getX(index, i);
+        }
+        return o;
+    }
+
+    /**
+     * Values y read from file.
+     * @return array of values y
+     */
+    @Override
+    double[] getYArray() {
+        double[] o = new double[size];
+        for (int i = 0; i < size; i++) {
+            o[i] = store.getY(index, i);
+        }
+        return o;
+    }
+
+    /**
+     * Check index of point.
+     * @param aIndex index of point
+     */
+    private void checkIndex(final int aIndex) {
+        if (aIndex < 0 || aIndex >= size) {
+            throw new IndexOutOfBoundsException("Index: " + aIndex + ", Size: " + size);
+        }
+    }
+}
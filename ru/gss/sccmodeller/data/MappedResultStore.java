@@ -0,0 +1,573 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Store of dependences for CCD in memory-mapped file.
+ * File consists of header and records of fixed size, one record for one calculation,
+ * so record is found by its index without reading of other records.
+ * Parts of file are mapped to memory when they are used first time,
+ * and operating system reads only pages of records which are read,
+ * so count of records is limited by size of disk rather than size of heap.
+ * Records can be written by several threads concurrently.
+ * Header consists of little-endian values: 4 bytes "SCCT", int version (2), int maximum count of points
+ * of record, int count of fields of parameter set, long count of records, long size of record,
+ * int size of base parameter set, and base parameter set from byte 64:
+ * int method of CCD calculation, int model of SIF calculation, double values of parameters in SI units
+ * in order of parameter file (BASE_DOUBLE_COUNT values, tolerance is the last one),
+ * int length and UTF-8 bytes of name.
+ * Records begin after header at offset which is multiple of 8.
+ * Record consists of int count of points, int reserved, double time of reaching critical depth (year),
+ * double values of fields of parameter set (ParameterSweep.FIELD_*),
+ * double values of time (year) and double values of depth (mm) for maximum count of points.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class MappedResultStore implements Closeable {
+
+    /**
+     * Version of format of file.
+     */
+    public static final int FORMAT_VERSION = 2;
+    /**
+     * Count of fields of parameter set in record.
+     */
+    public static final int FIELD_COUNT = ParameterSweep.FIELD_STRESS + 1;
+    /**
+     * Signature of file.
+     */
+    private static final byte[] SIGNATURE = {'S', 'C', 'C', 'T'};
+    /**
+     * Size of fixed part of header, byte.
+     */
+    private static final int HEADER_SIZE = 64;
+    /**
+     * Count of double values of base parameter set.
+     */
+    private static final int BASE_DOUBLE_COUNT = 16;
+    /**
+     * Maximum size of base parameter set, byte.
+     */
+    private static final int MAX_BASE_SIZE = 1 << 16;
+    /**
+     * Offset of values of fields in record, byte.
+     */
+    private static final int FIELD_OFFSET = 16;
+    /**
+     * Maximum size of mapped part of file, byte.
+     */
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    /**
+     * File.
+     */
+    private final File file;
+    /**
+     * Channel of file.
+     */
+    private final FileChannel channel;
+    /**
+     * Store is opened for writing.
+     */
+    private final boolean writable;
+    /**
+     * Base parameter set.
+     */
+    private final DataSet baseDataSet;
+    /**
+     * Offset of the first record, byte.
+     */
+    private final long recordOffset;
+    /**
+     * Maximum count of points of record.
+     */
+    private final int pointCapacity;
+    /**
+     * Count of records.
+     */
+    private final long recordCount;
+    /**
+     * Size of record, byte.
+     */
+    private final int recordSize;
+    /**
+     * Count of records in mapped part of file.
+     */
+    private final int segmentRecordCount;
+    /**
+     * Mapped parts of file, null for parts which are not used yet.
+     */
+    private final MappedByteBuffer[] segments;
+
+    /**
+     * Constructor.
+     * @param aFile file
+     * @param aChannel channel of file
+     * @param aWritable store is opened for writing
+     * @param aBaseDataSet base parameter set
+     * @param aRecordOffset offset of the first record
+     * @param aPointCapacity maximum count of points of record
+     * @param aRecordCount count of records
+     */
+    private MappedResultStore(final File aFile, final FileChannel aChannel, final boolean aWritable,
+            final DataSet aBaseDataSet, final long aRecordOffset, final int aPointCapacity,
+            final long aRecordCount) {
+        file = aFile;
+        channel = aChannel;
+        writable = aWritable;
+        baseDataSet = aBaseDataSet;
+        recordOffset = aRecordOffset;
+        pointCapacity = aPointCapacity;
+        recordCount = aRecordCount;
+        recordSize = (int) getRecordSize(aPointCapacity);
+        segmentRecordCount = (int) Math.max(1, SEGMENT_SIZE / recordSize);
+        segments = new MappedByteBuffer[(int) ((aRecordCount + segmentRecordCount - 1) / segmentRecordCount)];
+    }
+
+    /**
+     * Size of record.
+     * @param aPointCapacity maximum count of points of record
+     * @return size of record, byte
+     */
+    private static long getRecordSize(final int aPointCapacity) {
+        return FIELD_OFFSET + 8L * FIELD_COUNT + 16L * aPointCapacity;
+    }
+
+    /**
+     * Maximum count of points of dependence for CCD of parameter set.
+     * Dependence contains points of time grid and point of reaching critical depth.
+     * @param dataSet parameter set
+     * @return count of points
+     * @throws IllegalArgumentException if step of time is not positive or there are too many points
+     */
+    public static int getPointCapacity(final DataSet dataSet) {
+        double timeStep = dataSet.getTimeStep();
+        if (!(timeStep > 0)) {
+            throw new IllegalArgumentException("Неверный шаг по времени - " + timeStep);
+        }
+        double n = Math.floor((dataSet.getTimeEnd() - dataSet.getTimeBegin()) / timeStep) + 1;
+        //Rounding of quotient and accumulated error of rounding of substeps
+        //can give one more point of time grid each
+        n = Math.max(n, 0) + 3;
+        if (n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Слишком большое количество точек записи - " + n);
+        }
+        return (int) n;
+    }
+
+    /**
+     * Offset of the first record.
+     * @param baseSize size of base parameter set
+     * @return offset, byte
+     */
+    private static long getRecordOffset(final int baseSize) {
+        return (HEADER_SIZE + baseSize + 7) & ~7L;
+    }
+
+    /**
+     * Create file of store, existing file is replaced.
+     * All records are empty.
+     * Base parameter set is saved to header, maximum count of points of record is found by its time grid.
+     * @param aFile file
+     * @param aBaseDataSet base parameter set of calculations
+     * @param aRecordCount count of records
+     * @return store opened for writing
+     * @throws IOException exception
+     */
+    public static MappedResultStore create(final File aFile, final DataSet aBaseDataSet,
+            final long aRecordCount) throws IOException {
+        int capacity = getPointCapacity(aBaseDataSet);
+        if (aRecordCount < 0) {
+            throw new IllegalArgumentException("Неверное количество записей - " + aRecordCount);
+        }
+        long size = getRecordSize(capacity);
+        if (size > SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Слишком большое количество точек записи - " + capacity);
+        }
+        byte[] name = aBaseDataSet.getName().getBytes(Charset.forName("UTF-8"));
+        int baseSize = 8 + 8 * BASE_DOUBLE_COUNT + 4 + name.length;
+        if (baseSize > MAX_BASE_SIZE) {
+            throw new IllegalArgumentException("Слишком длинное имя набора параметров");
+        }
+        long offset = getRecordOffset(baseSize);
+        RandomAccessFile raf = new RandomAccessFile(aFile, "rw");
+        try {
+            //New length of file is filled by zeros, so all records are empty
+            raf.setLength(0);
+            raf.setLength(offset + size * aRecordCount);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + baseSize).order(ByteOrder.LITTLE_ENDIAN);
+            header.put(SIGNATURE);
+            header.putInt(FORMAT_VERSION);
+            header.putInt(capacity);
+            header.putInt(FIELD_COUNT);
+            header.putLong(aRecordCount);
+            header.putLong(size);
+            header.putInt(baseSize);
+            header.position(HEADER_SIZE);
+            writeBaseDataSet(header, aBaseDataSet);
+            header.putInt(name.length);
+            header.put(name);
+            header.clear();
+            FileChannel ch = raf.getChannel();
+            while (header.hasRemaining()) {
+                ch.write(header, header.position());
+            }
+            return new MappedResultStore(aFile, ch, true, aBaseDataSet.copy(), offset, capacity, aRecordCount);
+        } catch (IOException ex) {
+            raf.close();
+            throw ex;
+        } catch (RuntimeException ex) {
+            raf.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Open existing file of store for reading.
+     * @param aFile file
+     * @return store opened for reading
+     * @throws IOException exception
+     */
+    public static MappedResultStore open(final File aFile) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(aFile, "r");
+        try {
+            FileChannel ch = raf.getChannel();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (ch.read(header, header.position()) < 0) {
+                    throw new IOException("Неверный формат файла " + aFile);
+                }
+            }
+            header.flip();
+            byte[] signature = new byte[SIGNATURE.length];
+            header.get(signature);
+            if (!Arrays.equals(signature, SIGNATURE)) {
+                throw new IOException("Неверный формат файла " + aFile);
+            }
+            int version = header.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Неподдерживаемая версия файла " + aFile + " - " + version);
+            }
+            int capacity = header.getInt();
+            int fieldCount = header.getInt();
+            long count = header.getLong();
+            long size = header.getLong();
+            int baseSize = header.getInt();
+            if ((capacity < 1) || (fieldCount != FIELD_COUNT) || (count < 0)
+                    || (size != getRecordSize(capacity)) || (size > SEGMENT_SIZE)
+                    || (baseSize < 8 + 8 * BASE_DOUBLE_COUNT + 4) || (baseSize > MAX_BASE_SIZE)
+                    || (ch.size() < getRecordOffset(baseSize) + size * count)) {
+                throw new IOException("Неверный формат файла " + aFile);
+            }
+            ByteBuffer base = ByteBuffer.allocate(baseSize).order(ByteOrder.LITTLE_ENDIAN);
+            while (base.hasRemaining()) {
+                if (ch.read(base, HEADER_SIZE + base.position()) < 0) {
+                    throw new IOException("Неверный формат файла " + aFile);
+                }
+            }
+            base.flip();
+            DataSet o = readBaseDataSet(base);
+            int length = base.getInt();
+            if ((length < 0) || (length != base.remaining())) {
+                throw new IOException("Неверный формат файла " + aFile);
+            }
+            byte[] name = new byte[length];
+            base.get(name);
+            o.setName(new String(name, Charset.forName("UTF-8")));
+            return new MappedResultStore(aFile, ch, false, o, getRecordOffset(baseSize), capacity, count);
+        } catch (IOException ex) {
+            raf.close();
+            throw ex;
+        } catch (RuntimeException ex) {
+            raf.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Write parameters of base parameter set without name.
+     * @param b buffer
+     * @param o parameter set
+     */
+    private static void writeBaseDataSet(final ByteBuffer b, final DataSet o) {
+        b.putInt(o.getCalculationMethod());
+        b.putInt(o.getSifModel());
+        b.putDouble(o.getCurrentDensity());
+        b.putDouble(o.getYieldStrength());
+        b.putDouble(o.getThresholdSIF());
+        b.putDouble(o.getWallThickness());
+        b.putDouble(o.getInitDepth());
+        b.putDouble(o.getStress());
+        b.putDouble(o.getTimeBegin());
+        b.putDouble(o.getTimeEnd());
+        b.putDouble(o.getTimeStep());
+        b.putDouble(o.getDepthBegin());
+        b.putDouble(o.getDepthEnd());
+        b.putDouble(o.getDepthStep());
+        b.putDouble(o.getStressIFBegin());
+        b.putDouble(o.getStressIFEnd());
+        b.putDouble(o.getStressIFStep());
+        b.putDouble(o.getTolerance());
+    }
+
+    /**
+     * Read parameters of base parameter set without name.
+     * @param b buffer
+     * @return parameter set
+     */
+    private static DataSet readBaseDataSet(final ByteBuffer b) {
+        DataSet o = new DataSet();
+        o.setCalculationMethod(b.getInt());
+        o.setSifModel(b.getInt());
+        o.setCurrentDensity(b.getDouble());
+        o.setYieldStrength(b.getDouble());
+        o.setThresholdSIF(b.getDouble());
+        o.setWallThickness(b.getDouble());
+        o.setInitDepth(b.getDouble());
+        o.setStress(b.getDouble());
+        o.setTimeBegin(b.getDouble());
+        o.setTimeEnd(b.getDouble());
+        o.setTimeStep(b.getDouble());
+        o.setDepthBegin(b.getDouble());
+        o.setDepthEnd(b.getDouble());
+        o.setDepthStep(b.getDouble());
+        o.setStressIFBegin(b.getDouble());
+        o.setStressIFEnd(b.getDouble());
+        o.setStressIFStep(b.getDouble());
+        o.setTolerance(b.getDouble());
+        return o;
+    }
+
+    /**
+     * Base parameter set of calculations saved to header.
+     * Values of fields of records are set to it to get parameter sets of calculations.
+     * @return copy of base parameter set
+     */
+    public DataSet getBaseDataSet() {
+        return baseDataSet.copy();
+    }
+
+    /**
+     * File.
+     * @return file
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Maximum count of points of record.
+     * @return count of points
+     */
+    public int getPointCapacity() {
+        return pointCapacity;
+    }
+
+    /**
+     * Count of records.
+     * @return count of records
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Mapped part of file with record.
+     * @param index index of record
+     * @return mapped part of file
+     */
+    private MappedByteBuffer getSegment(final long index) {
+        if ((index < 0) || (index >= recordCount)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + recordCount);
+        }
+        int k = (int) (index / segmentRecordCount);
+        synchronized (segments) {
+            if (segments[k] == null) {
+                long first = (long) k * segmentRecordCount;
+                long count = Math.min(segmentRecordCount, recordCount - first);
+                try {
+                    MappedByteBuffer o = channel.map(writable ? FileChannel.MapMode.READ_WRITE
+                            : FileChannel.MapMode.READ_ONLY, recordOffset + first * recordSize, count * recordSize);
+                    o.order(ByteOrder.LITTLE_ENDIAN);
+                    segments[k] = o;
+                } catch (IOException ex) {
+                    throw new IllegalStateException("Ошибка отображения файла " + file + " - " + ex.getMessage(), ex);
+                }
+            }
+            return segments[k];
+        }
+    }
+
+    /**
+     * Offset of record in mapped part of file.
+     * @param index index of record
+     * @return offset, byte
+     */
+    private int getOffset(final long index) {
+        return (int) (index % segmentRecordCount) * recordSize;
+    }
+
+    /**
+     * Save dependence for CCD of parameter set to record.
+     * Records with different indexes can be saved by several threads concurrently.
+     * @param index index of record
+     * @param dataSet parameter set with calculated dependence for CCD
+     */
+    public void put(final long index, final DataSet dataSet) {
+        if (!writable) {
+            throw new IllegalStateException("Файл " + file + " открыт только для чтения");
+        }
+        DataSeries s = dataSet.getDataCCD();
+        int n = s.size();
+        if (n > pointCapacity) {
+            throw new IllegalArgumentException("Количество точек " + n
+                    + " превышает размер записи " + pointCapacity);
+        }
+        MappedByteBuffer b = getSegment(index);
+        int offset = getOffset(index);
+        b.putInt(offset, n);
+        b.putDouble(offset + 8, dataSet.getCriticalTime());
+        int p = offset + FIELD_OFFSET;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            b.putDouble(p, ParameterSweep.getField(dataSet, i));
+            p = p + 8;
+        }
+        int py = p + 8 * pointCapacity;
+        for (int i = 0; i < n; i++) {
+            b.putDouble(p, s.getX(i));
+            b.putDouble(py, s.getY(i));
+            p = p + 8;
+            py = py + 8;
+        }
+    }
+
+    /**
+     * Count of points of record.
+     * @param index index of record
+     * @return count of points (0 for empty record)
+     */
+    public int getSize(final long index) {
+        return getSegment(index).getInt(getOffset(index));
+    }
+
+    /**
+     * Time of reaching critical crack depth.
+     * @param index index of record
+     * @return time, year (NaN if critical depth is not reached)
+     */
+    public double getCriticalTime(final long index) {
+        if (getSize(index) == 0) {
+            return Double.NaN;
+        }
+        return getSegment(index).getDouble(getOffset(index) + 8);
+    }
+
+    /**
+     * Value of field of parameter set.
+     * @param index index of record
+     * @param field field of parameter set (ParameterSweep.FIELD_*)
+     * @return value of field
+     */
+    public double getParameter(final long index, final int field) {
+        if ((field < 0) || (field >= FIELD_COUNT)) {
+            throw new IllegalArgumentException("Неизвестный параметр " + field);
+        }
+        return getSegment(index).getDouble(getOffset(index) + FIELD_OFFSET + 8 * field);
+    }
+
+    /**
+     * Time of point of record.
+     * @param index index of record
+     * @param point index of point
+     * @return time, year
+     */
+    double getX(final long index, final int point) {
+        return getSegment(index).getDouble(getOffset(index) + FIELD_OFFSET + 8 * (FIELD_COUNT + point));
+    }
+
+    /**
+     * Depth of point of record.
+     * @param index index of record
+     * @param point index of point
+     * @return depth, mm
+     */
+    double getY(final long index, final int point) {
+        return getSegment(index).getDouble(getOffset(index) + FIELD_OFFSET
+                + 8 * (FIELD_COUNT + pointCapacity + point));
+    }
+
+    /**
+     * Dependence for CCD of record.
+     * Points are read from file when they are requested.
+     * @param index index of record
+     * @return dependence
+     */
+    public DataSeries getSeries(final long index) {
+        return new MappedDataSeries(this, index, getSize(index));
+    }
+
+    /**
+     * Create parameter set for record with base parameter set of header.
+     * @param index index of record
+     * @return parameter set
+     */
+    public DataSet createDataSet(final long index) {
+        return createDataSet(index, baseDataSet);
+    }
+
+    /**
+     * Create parameter set for record.
+     * Fields of record are set to copy of base parameter set,
+     * dependence for CCD is read from file when its points are requested,
+     * so parameter set can be added to list of parameter sets and shown in tables and on charts.
+     * @param index index of record
+     * @param base base parameter set
+     * @return parameter set
+     */
+    public DataSet createDataSet(final long index, final DataSet base) {
+        DataSet o = base.copy();
+        o.setName((base.getName() + " #" + (index + 1)).trim());
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            ParameterSweep.setField(o, i, getParameter(index, i));
+        }
+        o.setData(DataSet.DEPENDENCE_CCD, getSeries(index));
+        return o;
+    }
+
+    /**
+     * Write changed records to disk.
+     */
+    public void force() {
+        synchronized (segments) {
+            for (MappedByteBuffer o : segments) {
+                if (o != null) {
+                    o.force();
+                }
+            }
+        }
+    }
+
+    /**
+     * Close file.
+     * Changed records are written to disk, mapped parts of file are released by garbage collector.
+     * @throws IOException exception
+     */
+    public void close() throws IOException {
+        if (writable) {
+            force();
+        }
+        channel.close();
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Probabilistic calculation of remaining life by Monte Carlo method.
+ * Fields of base parameter set are sampled from given distributions,
+ * time of reaching critical crack depth is calculated for every sample by pool of threads with work stealing.
+ * Every sample has own generator of random numbers obtained from seed and index of sample,
+ * so result does not depend on count of threads.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class MonteCarlo {
+
+    /**
+     * Count of samples calculated by one task without splitting.
+     */
+    private static final int THRESHOLD = 64;
+
+    /**
+     * Base parameter set.
+     */
+    private DataSet baseDataSet;
+    /**
+     * Seed of generator of random numbers.
+     */
+    private long seed;
+    /**
+     * Sampled fields.
+     */
+    private ArrayList<Integer> fields;
+    /**
+     * Distributions of sampled fields.
+     */
+    private ArrayList<Distribution> distributions;
+
+    /**
+     * Constructor.
+     * @param aBaseDataSet base parameter set
+     * @param aSeed seed of generator of random numbers
+     */
+    public MonteCarlo(final DataSet aBaseDataSet, final long aSeed) {
+        baseDataSet = aBaseDataSet.copy();
+        seed = aSeed;
+        fields = new ArrayList<Integer>();
+        distributions = new ArrayList<Distribution>();
+    }
+
+    /**
+     * Add sampled field.
+     * @param field field of parameter set (ParameterSweep.FIELD_*)
+     * @param distribution distribution of field
+     */
+    public void addDistribution(final int field, final Distribution distribution) {
+        if ((field < ParameterSweep.FIELD_CURRENT_DENSITY) || (field > ParameterSweep.FIELD_STRESS)) {
+            throw new IllegalArgumentException("Неизвестный параметр " + field);
+        }
+        if (fields.contains(field)) {
+            throw new IllegalArgumentException("Повторное задание параметра " + field);
+        }
+        fields.add(field);
+        distributions.add(distribution);
+    }
+
+    /**
+     * Calculation.
+     * @param sampleCount count of samples
+     * @param monitor monitor of calculation or null
+     * @return probability of reaching critical depth on time grid
+     */
+    public MonteCarloResult calculate(final long sampleCount, final CalculationMonitor monitor) {
+        return calculate(sampleCount, monitor, null);
+    }
+
+    /**
+     * Calculation.
+     * Dependences for CCD of first samples are saved to records of store with indexes of samples,
+     * count of saved samples is equal to count of records.
+     * @param sampleCount count of samples
+     * @param monitor monitor of calculation or null
+     * @param store store of dependences or null
+     * @return probability of reaching critical depth on time grid
+     */
+    public MonteCarloResult calculate(final long sampleCount, final CalculationMonitor monitor,
+            final MappedResultStore store) {
+        if (sampleCount < 1) {
+            throw new IllegalArgumentException("Количество испытаний должно быть положительным");
+        }
+        double timeBegin = baseDataSet.getTimeBegin();
+        double timeStep = baseDataSet.getTimeStep();
+        if (!(timeStep > 0)) {
+            throw new IllegalArgumentException("Неверный шаг по времени - " + timeStep);
+        }
+        double estimate = Math.floor((baseDataSet.getTimeEnd() - timeBegin) / timeStep) + 1;
+        if (estimate > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("Слишком большое количество точек времени - " + estimate);
+        }
+        //Count of points of time grid is corrected after rounding of quotient
+        int n = (int) Math.max(estimate, 0);
+        while ((n > 0) && (timeBegin + (n - 1) * timeStep > baseDataSet.getTimeEnd())) {
+            n--;
+        }
+        while (timeBegin + n * timeStep <= baseDataSet.getTimeEnd()) {
+            n++;
+        }
+        long[] counts;
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            counts = pool.invoke(new SampleTask(n, store, monitor, sampleCount, new AtomicLong(), 0, sampleCount));
+        } finally {
+            pool.shutdown();
+        }
+        return new MonteCarloResult(baseDataSet.convertSecondToYear(timeBegin),
+                baseDataSet.convertSecondToYear(timeStep), counts, sampleCount);
+    }
+
+    /**
+     * Generator of random numbers for sample.
+     * @param sample index of sample
+     * @return generator of random numbers
+     */
+    private SplittableRandom createRandom(final long sample) {
+        //Finalizer of SplitMix64 gives well distributed seeds for neighbouring samples
+        long z = seed + (sample + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new SplittableRandom(z ^ (z >>> 31));
+    }
+
+    /**
+     * Calculation of time of reaching critical depth for sample.
+     * @param store store of dependences or null
+     * @param sample index of sample
+     * @param monitor monitor of calculation or null
+     * @return time, year (NaN if critical depth is not reached)
+     */
+    private double calculateSample(final MappedResultStore store, final long sample,
+            final CalculationMonitor monitor) {
+        DataSet o = baseDataSet.copy();
+        SplittableRandom random = createRandom(sample);
+        for (int i = 0; i < fields.size(); i++) {
+            ParameterSweep.setField(o, fields.get(i), distributions.get(i).sample(random));
+        }
+        o.calculateCCD(monitor);
+        if ((store != null) && (sample < store.getRecordCount())) {
+            store.put(sample, o);
+        }
+        return o.getCriticalTime();
+    }
+
+    /**
+     * Task of calculation of range of samples.
+     * Result of task is count of samples which reach critical depth at every point of time grid.
+     */
+    private class SampleTask extends RecursiveTask<long[]> {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+        /**
+         * Count of points of time grid.
+         */
+        private final int pointCount;
+        /**
+         * Store of dependences or null.
+         */
+        private final MappedResultStore store;
+        /**
+         * Monitor of calculation or null.
+         */
+        private final CalculationMonitor monitor;
+        /**
+         * Count of samples.
+         */
+        private final long sampleCount;
+        /**
+         * Count of calculated samples.
+         */
+        private final AtomicLong done;
+        /**
+         * First index of range.
+         */
+        private final long from;
+        /**
+         * Index after last index of range.
+         */
+        private final long to;
+
+        /**
+         * Constructor.
+         * @param aPointCount count of points of time grid
+         * @param aStore store of dependences or null
+         * @param aMonitor monitor of calculation or null
+         * @param aSampleCount count of samples
+         * @param aDone count of calculated samples
+         * @param aFrom first index of range
+         * @param aTo index after last index of range
+         */
+        SampleTask(final int aPointCount, final MappedResultStore aStore, final CalculationMonitor aMonitor,
+                final long aSampleCount, final AtomicLong aDone, final long aFrom, final long aTo) {
+            pointCount = aPointCount;
+            store = aStore;
+            monitor = aMonitor;
+            sampleCount = aSampleCount;
+            done = aDone;
+            from = aFrom;
+            to = aTo;
+        }
+
+        /**
+         * Calculation.
+         * @return count of samples which reach critical depth at every point of time grid
+         */
+        @Override
+        protected long[] compute() {
+            if (to - from > THRESHOLD) {
+                long middle = (from + to) >>> 1;
+                SampleTask left = new SampleTask(pointCount, store, monitor, sampleCount, done, from, middle);
+                SampleTask right = new SampleTask(pointCount, store, monitor, sampleCount, done, middle, to);
+                left.fork();
+                long[] counts = right.compute();
+                long[] leftCounts = left.join();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] = counts[i] + leftCounts[i];
+                }
+                return counts;
+            }
+            //Progress of single calculation is not shown, only its cancellation is checked
+            CalculationMonitor cancelMonitor = null;
+            if (monitor != null) {
+                cancelMonitor = new CalculationMonitor() {
+                    public void updateProgress(final double value) {
+                    }
+
+                    public boolean isCancelled() {
+                        return monitor.isCancelled();
+                    }
+                };
+            }
+            double timeBegin = baseDataSet.convertSecondToYear(baseDataSet.getTimeBegin());
+            double timeStep = baseDataSet.convertSecondToYear(baseDataSet.getTimeStep());
+            long[] counts = new long[pointCount];
+            for (long i = from; i < to; i++) {
+                if ((monitor != null) && monitor.isCancelled()) {
+                    throw new CancellationException("Расчет прерван");
+                }
+                double t = calculateSample(store, i, cancelMonitor);
+                if (!Double.isNaN(t)) {
+                    //First point of time grid which is not earlier than time of reaching critical depth
+                    int k = (int) Math.ceil((t - timeBegin) / timeStep - 1e-9);
+                    counts[Math.max(0, Math.min(k, pointCount - 1))]++;
+                }
+            }
+            long n = done.addAndGet(to - from);
+            if (monitor != null) {
+                monitor.updateProgress((double) n / sampleCount);
+            }
+            return counts;
+        }
+    }
+}
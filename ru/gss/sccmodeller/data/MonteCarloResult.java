@@ -0,0 +1,105 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+/**
+ * Result of probabilistic calculation.
+ * Probability of reaching critical crack depth is given on time grid of base parameter set.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class MonteCarloResult {
+
+    /**
+     * Beginning of time interval, year.
+     */
+    private final double timeBegin;
+    /**
+     * Time step, year.
+     */
+    private final double timeStep;
+    /**
+     * Count of samples which reach critical depth till point of time grid.
+     */
+    private final long[] failureCount;
+    /**
+     * Count of samples.
+     */
+    private final long sampleCount;
+
+    /**
+     * Constructor.
+     * @param aTimeBegin beginning of time interval, year
+     * @param aTimeStep time step, year
+     * @param aFailureCount count of samples which reach critical depth at every point of time grid
+     * @param aSampleCount count of samples
+     */
+    public MonteCarloResult(final double aTimeBegin, final double aTimeStep,
+            final long[] aFailureCount, final long aSampleCount) {
+        timeBegin = aTimeBegin;
+        timeStep = aTimeStep;
+        sampleCount = aSampleCount;
+        failureCount = new long[aFailureCount.length];
+        long n = 0;
+        for (int i = 0; i < failureCount.length; i++) {
+            n = n + aFailureCount[i];
+            failureCount[i] = n;
+        }
+    }
+
+    /**
+     * Count of points of time grid.
+     * @return count of points
+     */
+    public int getPointCount() {
+        return failureCount.length;
+    }
+
+    /**
+     * Count of samples.
+     * @return count of samples
+     */
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Time.
+     * @param point index of point of time grid
+     * @return time, year
+     */
+    public double getTime(final int point) {
+        return timeBegin + point * timeStep;
+    }
+
+    /**
+     * Count of samples which reach critical depth till time.
+     * @param point index of point of time grid
+     * @return count of samples
+     */
+    public long getFailureCount(final int point) {
+        return failureCount[point];
+    }
+
+    /**
+     * Probability of reaching critical depth till time.
+     * @param point index of point of time grid
+     * @return probability
+     */
+    public double getProbability(final int point) {
+        return (double) failureCount[point] / sampleCount;
+    }
+
+    /**
+     * Dependence probability of reaching critical depth - time.
+     * @return dependence
+     */
+    public DataSeries createDataProbability() {
+        DataSeries o = new DataSeries(failureCount.length);
+        for (int i = 0; i < failureCount.length; i++) {
+            o.add(getTime(i), getProbability(i));
+        }
+        return o;
+    }
+}
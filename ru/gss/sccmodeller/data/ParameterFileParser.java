@@ -0,0 +1,453 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parser of parameter files.
+ * File is read to buffer of bytes which is used again for next file,
+ * numbers are parsed from bytes without creation of strings, decimal separator is point or comma.
+ * Empty value or "-" keeps value of parameter, wrong values are reported with numbers of lines.
+ * Parser is not thread-safe, every thread must use own parser.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class ParameterFileParser {
+
+    /**
+     * Extension of parameter files.
+     */
+    public static final String EXTENSION = ".txt";
+    /**
+     * Count of lines of required parameters: name and parameters of model.
+     */
+    private static final int REQUIRED_LINE_COUNT = 16;
+    /**
+     * Count of lines of all parameters.
+     */
+    private static final int LINE_COUNT = 19;
+    /**
+     * Line of method of CCD calculation.
+     */
+    private static final int LINE_METHOD = 16;
+    /**
+     * Line of tolerance of adaptive calculation.
+     */
+    private static final int LINE_TOLERANCE = 17;
+    /**
+     * Line of model of SIF calculation.
+     */
+    private static final int LINE_SIF_MODEL = 18;
+    /**
+     * Maximum count of kept messages of errors.
+     */
+    private static final int MAX_ERROR_MESSAGES = 100;
+    /**
+     * Initial size of buffer.
+     */
+    private static final int BUFFER_SIZE = 4096;
+
+    /**
+     * Bytes of file.
+     */
+    private byte[] buffer;
+    /**
+     * Count of bytes of file.
+     */
+    private int length;
+    /**
+     * First indexes of lines.
+     */
+    private final int[] lineStart;
+    /**
+     * Indexes after the last ones of lines.
+     */
+    private final int[] lineEnd;
+    /**
+     * Count of lines, only first LINE_COUNT lines are found.
+     */
+    private int lineCount;
+    /**
+     * Parsed value.
+     */
+    private double value;
+    /**
+     * Count of errors.
+     */
+    private int errorCount;
+    /**
+     * Messages of errors.
+     */
+    private ArrayList<String> errors;
+
+    /**
+     * Constructor.
+     */
+    public ParameterFileParser() {
+        buffer = new byte[BUFFER_SIZE];
+        lineStart = new int[LINE_COUNT];
+        lineEnd = new int[LINE_COUNT];
+        errors = new ArrayList<String>();
+    }
+
+    /**
+     * Count of errors of the last file.
+     * @return count of errors
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Messages of errors of the last file, only first messages are kept.
+     * @return messages of errors
+     */
+    public ArrayList<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Load parameter set from file.
+     * @param file file
+     * @return parameter set
+     * @throws IOException exception
+     */
+    public DataSet parse(final File file) throws IOException {
+        DataSet o = new DataSet();
+        o.loadDataFromFile(file, this);
+        return o;
+    }
+
+    /**
+     * Read file to buffer and find lines.
+     * @param file file
+     * @throws IOException exception
+     */
+    void read(final File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            length = 0;
+            int n;
+            while ((n = in.read(buffer, length, buffer.length - length)) >= 0) {
+                length = length + n;
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+        } finally {
+            in.close();
+        }
+        //Lines are separated by \n, \r\n or \r as in BufferedReader
+        lineCount = 0;
+        int start = 0;
+        int i = 0;
+        while ((i < length) && (lineCount < LINE_COUNT)) {
+            byte c = buffer[i];
+            if ((c == '\n') || (c == '\r')) {
+                lineStart[lineCount] = start;
+                lineEnd[lineCount] = i;
+                lineCount++;
+                if ((c == '\r') && (i + 1 < length) && (buffer[i + 1] == '\n')) {
+                    i++;
+                }
+                start = i + 1;
+            }
+            i++;
+        }
+        if ((start < length) && (lineCount < LINE_COUNT)) {
+            lineStart[lineCount] = start;
+            lineEnd[lineCount] = length;
+            lineCount++;
+        }
+    }
+
+    /**
+     * Set parameters of read file to parameter set.
+     * @param dataSet parameter set
+     */
+    void parseParameters(final DataSet dataSet) {
+        errorCount = 0;
+        errors.clear();
+        if (lineCount < REQUIRED_LINE_COUNT) {
+            addError(lineCount + 1, "отсутствуют параметры, количество строк " + lineCount
+                    + " меньше " + REQUIRED_LINE_COUNT);
+            return;
+        }
+        String name = new String(buffer, lineStart[0], lineEnd[0] - lineStart[0], Charset.defaultCharset());
+        //Byte order mark
+        if (name.startsWith("\uFEFF")) {
+            name = name.substring(1);
+        }
+        dataSet.setName(name.trim());
+        for (int i = 1; i < REQUIRED_LINE_COUNT; i++) {
+            if (parseDouble(i)) {
+                setParameter(dataSet, i, value);
+            }
+        }
+        //Parameters of calculation method are absent in old files
+        if (lineCount > LINE_METHOD) {
+            if (parseInteger(LINE_METHOD)
+                    && checkRange(LINE_METHOD, DataSet.METHOD_EULER, DataSet.METHOD_QUADRATURE)) {
+                dataSet.setCalculationMethod((int) value);
+            }
+        }
+        if (lineCount > LINE_TOLERANCE) {
+            if (parseDouble(LINE_TOLERANCE)
+                    && checkRange(LINE_TOLERANCE, DataSet.TOLERANCE_MIN, DataSet.TOLERANCE_MAX)) {
+                dataSet.setTolerance(value);
+            }
+        }
+        if (lineCount > LINE_SIF_MODEL) {
+            if (parseInteger(LINE_SIF_MODEL)
+                    && checkRange(LINE_SIF_MODEL, DataSet.SIF_EXACT, DataSet.SIF_TABULATED)) {
+                dataSet.setSifModel((int) value);
+            }
+        }
+    }
+
+    /**
+     * Check of parsed value of line, value out of range is reported as error.
+     * @param line index of line
+     * @param min minimum value
+     * @param max maximum value
+     * @return true if value is within range
+     */
+    private boolean checkRange(final int line, final double min, final double max) {
+        if ((value >= min) && (value <= max)) {
+            return true;
+        }
+        addError(line + 1, "значение вне диапазона от " + formatLimit(min) + " до " + formatLimit(max)
+                + " - " + getText(line));
+        return false;
+    }
+
+    /**
+     * Text of limit of range, integer limit is written without fraction.
+     * @param limit limit of range
+     * @return text of limit
+     */
+    private static String formatLimit(final double limit) {
+        if (limit == Math.rint(limit)) {
+            return String.valueOf((long) limit);
+        }
+        return String.valueOf(limit);
+    }
+
+    /**
+     * Set parameter of model.
+     * Values in file are in units of dialog of parameters.
+     * @param dataSet parameter set
+     * @param line line of parameter
+     * @param v value of parameter
+     */
+    private static void setParameter(final DataSet dataSet, final int line, final double v) {
+        switch (line) {
+            case 1:
+                dataSet.setCurrentDensity(v);
+                break;
+            case 2:
+                dataSet.setYieldStrength(v);
+                break;
+            case 3:
+                dataSet.setThresholdSIF(v);
+                break;
+            case 4:
+                dataSet.setWallThickness(dataSet.convertMillimeterToMeter(v));
+                break;
+            case 5:
+                dataSet.setInitDepth(dataSet.convertMillimeterToMeter(v));
+                break;
+            case 6:
+                dataSet.setStress(v);
+                break;
+            case 7:
+                dataSet.setTimeBegin(dataSet.convertYearToSecond(v));
+                break;
+            case 8:
+                dataSet.setTimeEnd(dataSet.convertYearToSecond(v));
+                break;
+            case 9:
+                dataSet.setTimeStep(dataSet.convertYearToSecond(v));
+                break;
+            case 10:
+                dataSet.setDepthBegin(dataSet.convertMillimeterToMeter(v));
+                break;
+            case 11:
+                dataSet.setDepthEnd(dataSet.convertMillimeterToMeter(v));
+                break;
+            case 12:
+                dataSet.setDepthStep(dataSet.convertMillimeterToMeter(v));
+                break;
+            case 13:
+                dataSet.setStressIFBegin(v);
+                break;
+            case 14:
+                dataSet.setStressIFEnd(v);
+                break;
+            default:
+                dataSet.setStressIFStep(v);
+                break;
+        }
+    }
+
+    /**
+     * Parse double value of line.
+     * @param line index of line
+     * @return true if value is parsed, false if value is empty or wrong
+     */
+    private boolean parseDouble(final int line) {
+        if (DecimalParser.isEmpty(buffer, lineStart[line], lineEnd[line])) {
+            return false;
+        }
+        try {
+            value = DecimalParser.parseDouble(buffer, lineStart[line], lineEnd[line]);
+            return true;
+        } catch (NumberFormatException ex) {
+            addError(line + 1, "неверное число - " + getText(line));
+            return false;
+        }
+    }
+
+    /**
+     * Parse integer value of line.
+     * @param line index of line
+     * @return true if value is parsed, false if value is empty or wrong
+     */
+    private boolean parseInteger(final int line) {
+        if (DecimalParser.isEmpty(buffer, lineStart[line], lineEnd[line])) {
+            return false;
+        }
+        try {
+            value = DecimalParser.parseInteger(buffer, lineStart[line], lineEnd[line]);
+            return true;
+        } catch (NumberFormatException ex) {
+            addError(line + 1, "неверное целое число - " + getText(line));
+            return false;
+        }
+    }
+
+    /**
+     * Text of line without spaces around it.
+     * @param line index of line
+     * @return text of line
+     */
+    private String getText(final int line) {
+        return new String(buffer, lineStart[line], lineEnd[line] - lineStart[line], Charset.defaultCharset()).trim();
+    }
+
+    /**
+     * Add error.
+     * @param line number of line from 1
+     * @param message message of error
+     */
+    private void addError(final int line, final String message) {
+        errorCount++;
+        if (errors.size() < MAX_ERROR_MESSAGES) {
+            errors.add("Строка " + line + ": " + message);
+        }
+    }
+
+    /**
+     * Parameter files of directory in order of names.
+     * @param directory directory
+     * @return files
+     * @throws IOException directory can not be read
+     */
+    public static ArrayList<File> listFiles(final File directory) throws IOException {
+        File[] list = directory.listFiles();
+        if (list == null) {
+            throw new IOException("Невозможно прочитать папку - " + directory);
+        }
+        Arrays.sort(list);
+        ArrayList<File> files = new ArrayList<File>();
+        for (File o : list) {
+            if (o.isFile() && o.getName().toLowerCase(Locale.US).endsWith(EXTENSION)) {
+                files.add(o);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Load all parameter files of directory.
+     * Files are loaded concurrently by pool of threads, every thread uses own parser.
+     * Parameter sets of files with wrong values are loaded too, files which can not be read are skipped.
+     * @param directory directory
+     * @param threadCount count of threads
+     * @param messages messages of errors with names of files are added to this list
+     * @return parameter sets in order of names of files
+     * @throws IOException directory can not be read
+     * @throws InterruptedException loading is interrupted
+     */
+    public static ArrayList<DataSet> loadDirectory(final File directory, final int threadCount,
+            final ArrayList<String> messages) throws IOException, InterruptedException {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Неверное количество потоков - " + threadCount);
+        }
+        final ArrayList<File> files = listFiles(directory);
+        final DataSet[] sets = new DataSet[files.size()];
+        final String[][] fileMessages = new String[files.size()][];
+        final AtomicInteger next = new AtomicInteger();
+        int n = Math.max(1, Math.min(threadCount, files.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(n);
+        ArrayList<Future<?>> futures = new ArrayList<Future<?>>();
+        try {
+            for (int i = 0; i < n; i++) {
+                futures.add(executor.submit(new Runnable() {
+                    public void run() {
+                        ParameterFileParser parser = new ParameterFileParser();
+                        int k;
+                        while (((k = next.getAndIncrement()) < sets.length)
+                                && !Thread.currentThread().isInterrupted()) {
+                            File f = files.get(k);
+                            try {
+                                sets[k] = parser.parse(f);
+                                if (parser.getErrorCount() > 0) {
+                                    fileMessages[k] = new String[parser.getErrors().size()];
+                                    for (int j = 0; j < fileMessages[k].length; j++) {
+                                        fileMessages[k][j] = f.getName() + ": " + parser.getErrors().get(j);
+                                    }
+                                }
+                            } catch (IOException ex) {
+                                fileMessages[k] = new String[] {f.getName() + ": " + ex};
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException ex) {
+                    throw new IllegalStateException(ex.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        ArrayList<DataSet> result = new ArrayList<DataSet>();
+        for (int i = 0; i < sets.length; i++) {
+            if (sets[i] != null) {
+                result.add(sets[i]);
+            }
+            if (fileMessages[i] != null) {
+                messages.addAll(Arrays.asList(fileMessages[i]));
+            }
+        }
+        return result;
+    }
+}
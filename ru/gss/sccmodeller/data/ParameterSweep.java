@@ -0,0 +1,334 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parameter sweep.
+ * Fields of base parameter set are varied over all combinations of given values,
+ * dependence for CCD is calculated for every combination by pool of threads with work stealing.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class ParameterSweep {
+
+    /**
+     * Field anodic current density.
+     */
+    public static final int FIELD_CURRENT_DENSITY = 0;
+    /**
+     * Field yield strength.
+     */
+    public static final int FIELD_YIELD_STRENGTH = 1;
+    /**
+     * Field threshold stress intensity factor.
+     */
+    public static final int FIELD_THRESHOLD_SIF = 2;
+    /**
+     * Field wall thickness.
+     */
+    public static final int FIELD_WALL_THICKNESS = 3;
+    /**
+     * Field initial crack depth.
+     */
+    public static final int FIELD_INIT_DEPTH = 4;
+    /**
+     * Field stress.
+     */
+    public static final int FIELD_STRESS = 5;
+    /**
+     * Count of points calculated by one task without splitting.
+     */
+    private static final int THRESHOLD = 4;
+
+    /**
+     * Base parameter set.
+     */
+    private DataSet baseDataSet;
+    /**
+     * Varied fields.
+     */
+    private ArrayList<Integer> fields;
+    /**
+     * Values of varied fields.
+     */
+    private ArrayList<double[]> values;
+
+    /**
+     * Constructor.
+     * @param aBaseDataSet base parameter set
+     */
+    public ParameterSweep(final DataSet aBaseDataSet) {
+        baseDataSet = aBaseDataSet.copy();
+        fields = new ArrayList<Integer>();
+        values = new ArrayList<double[]>();
+    }
+
+    /**
+     * Add varied field with uniform values.
+     * @param field field of parameter set
+     * @param begin first value
+     * @param end last value
+     * @param count count of values
+     */
+    public void addRange(final int field, final double begin, final double end, final int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Количество значений должно быть положительным");
+        }
+        double[] v = new double[count];
+        for (int i = 0; i < count; i++) {
+            v[i] = (count == 1) ? begin : begin + (end - begin) * i / (count - 1);
+        }
+        addValues(field, v);
+    }
+
+    /**
+     * Add varied field with given values.
+     * @param field field of parameter set
+     * @param aValues values of field
+     */
+    public void addValues(final int field, final double[] aValues) {
+        if ((field < FIELD_CURRENT_DENSITY) || (field > FIELD_STRESS)) {
+            throw new IllegalArgumentException("Неизвестный параметр " + field);
+        }
+        if (aValues.length == 0) {
+            throw new IllegalArgumentException("Отсутствуют значения параметра " + field);
+        }
+        if (fields.contains(field)) {
+            throw new IllegalArgumentException("Повторное задание параметра " + field);
+        }
+        fields.add(field);
+        values.add(aValues.clone());
+    }
+
+    /**
+     * Count of combinations of values.
+     * @return count of combinations
+     */
+    public long getPointCount() {
+        long n = 1;
+        for (int i = 0; i < values.size(); i++) {
+            n = n * values.get(i).length;
+        }
+        return n;
+    }
+
+    /**
+     * Value of field of parameter set.
+     * @param dataSet parameter set
+     * @param field field of parameter set
+     * @param value value of field
+     */
+    public static void setField(final DataSet dataSet, final int field, final double value) {
+        switch (field) {
+            case FIELD_CURRENT_DENSITY:
+                dataSet.setCurrentDensity(value);
+                break;
+            case FIELD_YIELD_STRENGTH:
+                dataSet.setYieldStrength(value);
+                break;
+            case FIELD_THRESHOLD_SIF:
+                dataSet.setThresholdSIF(value);
+                break;
+            case FIELD_WALL_THICKNESS:
+                dataSet.setWallThickness(value);
+                break;
+            case FIELD_INIT_DEPTH:
+                dataSet.setInitDepth(value);
+                break;
+            default:
+                dataSet.setStress(value);
+                break;
+        }
+    }
+
+    /**
+     * Value of field of parameter set.
+     * @param dataSet parameter set
+     * @param field field of parameter set
+     * @return value of field
+     */
+    public static double getField(final DataSet dataSet, final int field) {
+        switch (field) {
+            case FIELD_CURRENT_DENSITY:
+                return dataSet.getCurrentDensity();
+            case FIELD_YIELD_STRENGTH:
+                return dataSet.getYieldStrength();
+            case FIELD_THRESHOLD_SIF:
+                return dataSet.getThresholdSIF();
+            case FIELD_WALL_THICKNESS:
+                return dataSet.getWallThickness();
+            case FIELD_INIT_DEPTH:
+                return dataSet.getInitDepth();
+            default:
+                return dataSet.getStress();
+        }
+    }
+
+    /**
+     * Calculation of all combinations of values.
+     * @param monitor monitor of calculation or null
+     * @return table of results
+     */
+    public SweepResult calculate(final CalculationMonitor monitor) {
+        return calculate(monitor, null);
+    }
+
+    /**
+     * Calculation of all combinations of values.
+     * Dependences for CCD are saved to records of store with indexes of combinations.
+     * @param monitor monitor of calculation or null
+     * @param store store of dependences with count of records not less than count of combinations or null
+     * @return table of results
+     */
+    public SweepResult calculate(final CalculationMonitor monitor, final MappedResultStore store) {
+        long count = getPointCount();
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Слишком большое количество сочетаний параметров - " + count);
+        }
+        //Values of varied fields of all combinations are kept in one array
+        if (count * fields.size() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Слишком большое количество значений параметров сочетаний - "
+                    + count * fields.size());
+        }
+        int[] f = new int[fields.size()];
+        for (int i = 0; i < f.length; i++) {
+            f[i] = fields.get(i);
+        }
+        if ((store != null) && (store.getRecordCount() < count)) {
+            throw new IllegalArgumentException("Количество записей " + store.getRecordCount()
+                    + " меньше количества сочетаний параметров " + count);
+        }
+        SweepResult result = new SweepResult(f, (int) count);
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            pool.invoke(new SweepTask(result, store, monitor, new AtomicInteger(), 0, (int) count));
+        } finally {
+            pool.shutdown();
+        }
+        return result;
+    }
+
+    /**
+     * Calculation of one combination of values.
+     * @param result table of results
+     * @param store store of dependences or null
+     * @param point index of combination
+     * @param monitor monitor of calculation or null
+     */
+    private void calculatePoint(final SweepResult result, final MappedResultStore store,
+            final int point, final CalculationMonitor monitor) {
+        DataSet o = baseDataSet.copy();
+        //Index of combination is decoded as number with mixed radix
+        int k = point;
+        for (int i = fields.size() - 1; i >= 0; i--) {
+            double[] v = values.get(i);
+            double value = v[k % v.length];
+            k = k / v.length;
+            setField(o, fields.get(i), value);
+            result.setParameter(point, i, value);
+        }
+        o.calculateCCD(monitor);
+        //The last point is point of reaching critical depth or the end of time interval
+        DataSeries ccd = o.getDataCCD();
+        result.setResult(point, o.getCriticalTime(), ccd.isEmpty() ? Double.NaN : ccd.getY(ccd.size() - 1));
+        if (store != null) {
+            store.put(point, o);
+        }
+    }
+
+    /**
+     * Task of calculation of range of combinations.
+     */
+    private class SweepTask extends RecursiveAction {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+        /**
+         * Table of results.
+         */
+        private final SweepResult result;
+        /**
+         * Store of dependences or null.
+         */
+        private final MappedResultStore store;
+        /**
+         * Monitor of calculation or null.
+         */
+        private final CalculationMonitor monitor;
+        /**
+         * Count of calculated combinations.
+         */
+        private final AtomicInteger done;
+        /**
+         * First index of range.
+         */
+        private final int from;
+        /**
+         * Index after last index of range.
+         */
+        private final int to;
+
+        /**
+         * Constructor.
+         * @param aResult table of results
+         * @param aStore store of dependences or null
+         * @param aMonitor monitor of calculation or null
+         * @param aDone count of calculated combinations
+         * @param aFrom first index of range
+         * @param aTo index after last index of range
+         */
+        SweepTask(final SweepResult aResult, final MappedResultStore aStore, final CalculationMonitor aMonitor,
+                final AtomicInteger aDone, final int aFrom, final int aTo) {
+            result = aResult;
+            store = aStore;
+            monitor = aMonitor;
+            done = aDone;
+            from = aFrom;
+            to = aTo;
+        }
+
+        /**
+         * Calculation.
+         */
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SweepTask(result, store, monitor, done, from, middle),
+                        new SweepTask(result, store, monitor, done, middle, to));
+                return;
+            }
+            //Progress of single calculation is not shown, only its cancellation is checked
+            CalculationMonitor cancelMonitor = null;
+            if (monitor != null) {
+                cancelMonitor = new CalculationMonitor() {
+                    public void updateProgress(final double value) {
+                    }
+
+                    public boolean isCancelled() {
+                        return monitor.isCancelled();
+                    }
+                };
+            }
+            for (int i = from; i < to; i++) {
+                if ((monitor != null) && monitor.isCancelled()) {
+                    throw new CancellationException("Расчет прерван");
+                }
+                calculatePoint(result, store, i, cancelMonitor);
+                int n = done.incrementAndGet();
+                if (monitor != null) {
+                    monitor.updateProgress((double) n / result.getPointCount());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Ranking of pipe segments by remaining life.
+ * Segments are ordered by increase of time of reaching critical depth,
+ * segments which do not reach critical depth till the end of time interval
+ * follow them in order of decrease of crack depth at the end of time interval.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class RankingResult {
+
+    /**
+     * Table of segments.
+     */
+    private final SegmentTable segments;
+    /**
+     * Time of reaching critical crack depth, year.
+     */
+    private final double[] criticalTime;
+    /**
+     * Corrosion crack depth at the end of calculation, mm.
+     */
+    private final double[] finalDepth;
+    /**
+     * Indexes of segments in order of rank.
+     */
+    private int[] order;
+
+    /**
+     * Constructor.
+     * @param aSegments table of segments
+     */
+    public RankingResult(final SegmentTable aSegments) {
+        segments = aSegments;
+        criticalTime = new double[aSegments.size()];
+        finalDepth = new double[aSegments.size()];
+        Arrays.fill(criticalTime, Double.NaN);
+        Arrays.fill(finalDepth, Double.NaN);
+    }
+
+    /**
+     * Table of segments.
+     * @return table of segments
+     */
+    public SegmentTable getSegments() {
+        return segments;
+    }
+
+    /**
+     * Count of segments.
+     * @return count of segments
+     */
+    public int size() {
+        return criticalTime.length;
+    }
+
+    /**
+     * Time of reaching critical crack depth.
+     * @param index index of segment
+     * @return time, year (NaN if critical depth is not reached)
+     */
+    public double getCriticalTime(final int index) {
+        return criticalTime[index];
+    }
+
+    /**
+     * Corrosion crack depth at the end of calculation.
+     * @param index index of segment
+     * @return depth, mm
+     */
+    public double getFinalDepth(final int index) {
+        return finalDepth[index];
+    }
+
+    /**
+     * Results of calculation for segment.
+     * @param index index of segment
+     * @param aCriticalTime time of reaching critical crack depth, year
+     * @param aFinalDepth corrosion crack depth at the end of calculation, mm
+     */
+    void setResult(final int index, final double aCriticalTime, final double aFinalDepth) {
+        criticalTime[index] = aCriticalTime;
+        finalDepth[index] = aFinalDepth;
+    }
+
+    /**
+     * Index of segment by rank.
+     * @param rank rank from 0
+     * @return index of segment
+     */
+    public int getIndex(final int rank) {
+        if (order == null) {
+            sort();
+        }
+        return order[rank];
+    }
+
+    /**
+     * Sort of segments by rank.
+     */
+    private void sort() {
+        Integer[] o = new Integer[criticalTime.length];
+        for (int i = 0; i < o.length; i++) {
+            o[i] = Integer.valueOf(i);
+        }
+        Arrays.sort(o, new Comparator<Integer>() {
+            public int compare(final Integer a, final Integer b) {
+                double ta = criticalTime[a.intValue()];
+                double tb = criticalTime[b.intValue()];
+                boolean na = Double.isNaN(ta);
+                boolean nb = Double.isNaN(tb);
+                if (!na && !nb) {
+                    return Double.compare(ta, tb);
+                }
+                if (na != nb) {
+                    return na ? 1 : -1;
+                }
+                //NaN of depth is placed at the end
+                return Double.compare(depthKey(b.intValue()), depthKey(a.intValue()));
+            }
+        });
+        order = new int[o.length];
+        for (int i = 0; i < o.length; i++) {
+            order[i] = o[i].intValue();
+        }
+    }
+
+    /**
+     * Key of sort by crack depth.
+     * @param index index of segment
+     * @return crack depth or negative infinity if it is not calculated
+     */
+    private double depthKey(final int index) {
+        double d = finalDepth[index];
+        return Double.isNaN(d) ? Double.NEGATIVE_INFINITY : d;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ranking of pipe segments by remaining life.
+ * Dependence for CCD is calculated for every segment by pool of threads with work stealing,
+ * only time of reaching critical depth and final depth are kept.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class RemainingLifeRanking {
+
+    /**
+     * Count of segments calculated by one task without splitting.
+     */
+    private static final int THRESHOLD = 16;
+
+    /**
+     * Base parameter set.
+     */
+    private DataSet baseDataSet;
+    /**
+     * Table of segments.
+     */
+    private SegmentTable segments;
+    /**
+     * Count of threads.
+     */
+    private int threadCount;
+
+    /**
+     * Constructor.
+     * @param aBaseDataSet base parameter set
+     * @param aSegments table of segments
+     */
+    public RemainingLifeRanking(final DataSet aBaseDataSet, final SegmentTable aSegments) {
+        baseDataSet = aBaseDataSet.copy();
+        segments = aSegments;
+        threadCount = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Count of threads.
+     * @param aThreadCount count of threads
+     */
+    public void setThreadCount(final int aThreadCount) {
+        if (aThreadCount < 1) {
+            throw new IllegalArgumentException("Неверное количество потоков - " + aThreadCount);
+        }
+        threadCount = aThreadCount;
+    }
+
+    /**
+     * Calculation of all segments.
+     * @param monitor monitor of calculation or null
+     * @return ranking of segments
+     */
+    public RankingResult calculate(final CalculationMonitor monitor) {
+        RankingResult result = new RankingResult(segments);
+        if (segments.size() == 0) {
+            return result;
+        }
+        ForkJoinPool pool = new ForkJoinPool(threadCount);
+        try {
+            pool.invoke(new RankingTask(result, monitor, new AtomicInteger(), 0, segments.size()));
+        } finally {
+            pool.shutdown();
+        }
+        return result;
+    }
+
+    /**
+     * Calculation of one segment.
+     * @param result ranking of segments
+     * @param index index of segment
+     * @param monitor monitor of calculation or null
+     */
+    private void calculateSegment(final RankingResult result, final int index, final CalculationMonitor monitor) {
+        DataSet o = segments.createDataSet(index, baseDataSet);
+        o.calculateCCD(monitor);
+        //The last point is point of reaching critical depth or the end of time interval
+        DataSeries ccd = o.getDataCCD();
+        result.setResult(index, o.getCriticalTime(), ccd.isEmpty() ? Double.NaN : ccd.getY(ccd.size() - 1));
+    }
+
+    /**
+     * Task of calculation of range of segments.
+     */
+    private class RankingTask extends RecursiveAction {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+        /**
+         * Ranking of segments.
+         */
+        private final RankingResult result;
+        /**
+         * Monitor of calculation or null.
+         */
+        private final CalculationMonitor monitor;
+        /**
+         * Count of calculated segments.
+         */
+        private final AtomicInteger done;
+        /**
+         * First index of range.
+         */
+        private final int from;
+        /**
+         * Index after last index of range.
+         */
+        private final int to;
+
+        /**
+         * Constructor.
+         * @param aResult ranking of segments
+         * @param aMonitor monitor of calculation or null
+         * @param aDone count of calculated segments
+         * @param aFrom first index of range
+         * @param aTo index after last index of range
+         */
+        RankingTask(final RankingResult aResult, final CalculationMonitor aMonitor,
+                final AtomicInteger aDone, final int aFrom, final int aTo) {
+            result = aResult;
+            monitor = aMonitor;
+            done = aDone;
+            from = aFrom;
+            to = aTo;
+        }
+
+        /**
+         * Calculation.
+         */
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RankingTask(result, monitor, done, from, middle),
+                        new RankingTask(result, monitor, done, middle, to));
+                return;
+            }
+            //Progress of single calculation is not shown, only its cancellation is checked
+            CalculationMonitor cancelMonitor = null;
+            if (monitor != null) {
+                cancelMonitor = new CalculationMonitor() {
+                    public void updateProgress(final double value) {
+                    }
+
+                    public boolean isCancelled() {
+                        return monitor.isCancelled();
+                    }
+                };
+            }
+            for (int i = from; i < to; i++) {
+                if ((monitor != null) && monitor.isCancelled()) {
+                    throw new CancellationException("Расчет прерван");
+                }
+                calculateSegment(result, i, cancelMonitor);
+                int n = done.incrementAndGet();
+                if (monitor != null) {
+                    monitor.updateProgress((double) n / result.size());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of calculated dependences.
+ * Dependences are removed in order of least recent use, when total size exceeds memory budget.
+ * Cached dependences are shared between parameter sets, so they must not be changed.
+ * Dependences absent in memory are searched in cache on disk if it is set,
+ * calculated dependences are saved to it.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class ResultCache {
+
+    /**
+     * Default memory budget, byte.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+    /**
+     * Dependences in order of access.
+     */
+    private final LinkedHashMap<ResultKey, DataSeries> map;
+    /**
+     * Memory budget, byte.
+     */
+    private long memoryBudget;
+    /**
+     * Size of cached dependences, byte.
+     */
+    private long memorySize;
+    /**
+     * Count of found dependences.
+     */
+    private long hitCount;
+    /**
+     * Count of absent dependences.
+     */
+    private long missCount;
+    /**
+     * Cache on disk or null.
+     */
+    private volatile DiskResultCache diskCache;
+
+    /**
+     * Constructor.
+     * @param aMemoryBudget memory budget, byte
+     */
+    public ResultCache(final long aMemoryBudget) {
+        map = new LinkedHashMap<ResultKey, DataSeries>(16, 0.75f, true);
+        memoryBudget = aMemoryBudget;
+        memorySize = 0;
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    /**
+     * Cached dependence.
+     * @param key key of dependence
+     * @return dependence or null if it is absent
+     */
+    public DataSeries get(final ResultKey key) {
+        synchronized (this) {
+            DataSeries o = map.get(key);
+            if (o != null) {
+                hitCount++;
+                return o;
+            }
+        }
+        //Reading from disk is made without lock
+        DiskResultCache disk = diskCache;
+        DataSeries o = (disk == null) ? null : disk.get(key);
+        synchronized (this) {
+            if (o == null) {
+                missCount++;
+            } else {
+                hitCount++;
+                putToMemory(key, o);
+            }
+        }
+        return o;
+    }
+
+    /**
+     * Put dependence to cache.
+     * @param key key of dependence
+     * @param value dependence
+     */
+    public void put(final ResultKey key, final DataSeries value) {
+        synchronized (this) {
+            putToMemory(key, value);
+        }
+        DiskResultCache disk = diskCache;
+        if (disk != null) {
+            disk.put(key, value);
+        }
+    }
+
+    /**
+     * Put dependence to memory.
+     * Dependence greater than memory budget is not put.
+     * @param key key of dependence
+     * @param value dependence
+     */
+    private void putToMemory(final ResultKey key, final DataSeries value) {
+        long size = value.getMemorySize();
+        if (size > memoryBudget) {
+            return;
+        }
+        DataSeries old = map.put(key, value);
+        if (old != null) {
+            memorySize = memorySize - old.getMemorySize();
+        }
+        memorySize = memorySize + size;
+        evict();
+    }
+
+    /**
+     * Remove least recently used dependences till size is within memory budget.
+     */
+    private void evict() {
+        Iterator<Map.Entry<ResultKey, DataSeries>> it = map.entrySet().iterator();
+        while ((memorySize > memoryBudget) && it.hasNext()) {
+            memorySize = memorySize - it.next().getValue().getMemorySize();
+            it.remove();
+        }
+    }
+
+    /**
+     * Cache on disk.
+     * @return cache on disk or null
+     */
+    public DiskResultCache getDiskCache() {
+        return diskCache;
+    }
+
+    /**
+     * Cache on disk.
+     * @param aDiskCache cache on disk or null
+     */
+    public void setDiskCache(final DiskResultCache aDiskCache) {
+        diskCache = aDiskCache;
+    }
+
+    /**
+     * Remove all dependences from memory.
+     */
+    public synchronized void clear() {
+        map.clear();
+        memorySize = 0;
+    }
+
+    /**
+     * Count of cached dependences.
+     * @return count of dependences
+     */
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * Memory budget.
+     * @return memory budget, byte
+     */
+    public synchronized long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Memory budget.
+     * @param aMemoryBudget memory budget, byte
+     */
+    public synchronized void setMemoryBudget(final long aMemoryBudget) {
+        memoryBudget = aMemoryBudget;
+        evict();
+    }
+
+    /**
+     * Size of cached dependences.
+     * @return size, byte
+     */
+    public synchronized long getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * Count of found dependences.
+     * @return count of found dependences
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Count of absent dependences.
+     * @return count of absent dependences
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+}
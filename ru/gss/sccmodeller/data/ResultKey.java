@@ -0,0 +1,118 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.util.Arrays;
+
+/**
+ * Key of dependence in cache of results.
+ * Parameters of calculation are compared by exact bit representation of values.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public final class ResultKey {
+
+    /**
+     * Dependence.
+     */
+    private final int dependence;
+    /**
+     * Bit representation of parameters of calculation.
+     */
+    private final long[] parameters;
+    /**
+     * Hash code.
+     */
+    private final int hash;
+
+    /**
+     * Constructor.
+     * @param aDependence dependence (DataSet.DEPENDENCE_*)
+     * @param values parameters of calculation
+     */
+    public ResultKey(final int aDependence, final double[] values) {
+        dependence = aDependence;
+        parameters = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            //Zero of both signs gives the same result
+            parameters[i] = Double.doubleToLongBits(values[i] + 0.0);
+        }
+        hash = 31 * Arrays.hashCode(parameters) + dependence;
+    }
+
+    /**
+     * Dependence.
+     * @return dependence (DataSet.DEPENDENCE_*)
+     */
+    public int getDependence() {
+        return dependence;
+    }
+
+    /**
+     * Count of parameters of calculation.
+     * @return count of parameters
+     */
+    public int getParameterCount() {
+        return parameters.length;
+    }
+
+    /**
+     * Bit representation of parameter of calculation.
+     * @param index index of parameter
+     * @return bit representation of value
+     */
+    public long getParameterBits(final int index) {
+        return parameters[index];
+    }
+
+    /**
+     * Hash code of 64 bit for names of files.
+     * @return hash code
+     */
+    public long getFingerprint() {
+        long h = dependence;
+        for (int i = 0; i < parameters.length; i++) {
+            h = mix(h * 31 + parameters[i]);
+        }
+        return h;
+    }
+
+    /**
+     * Mixing of bits (finalizer of SplitMix64).
+     * @param value value
+     * @return mixed value
+     */
+    private static long mix(final long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Hash code.
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Equality of keys.
+     * @param obj other key
+     * @return true if keys are equal
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ResultKey)) {
+            return false;
+        }
+        ResultKey o = (ResultKey) obj;
+        return (hash == o.hash) && (dependence == o.dependence) && Arrays.equals(parameters, o.parameters);
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Import of parameters of pipe segments from CSV file.
+ * File is read by blocks of bytes, numbers are parsed from bytes without creation of strings,
+ * so file of any size is read with constant memory except table of segments.
+ * The first line is header with names of columns: id, current_a_m2, yield_mpa, kth_mpa_m05,
+ * wall_mm, depth_mm, stress_mpa. Columns can follow in any order, unknown columns are skipped,
+ * absent columns and empty values are taken from base parameter set.
+ * Separator of columns is semicolon, tab or comma (it is found in header),
+ * decimal separator is point or comma if columns are not separated by comma.
+ * Lines with errors are skipped and are reported with numbers of lines.
+ * @version 1.1.0 18.10.2026
+ * @author Sergey Guskov
+ */
+public class SegmentImporter {
+
+    /**
+     * Name of column of identifier of segment.
+     */
+    public static final String COLUMN_ID = "id";
+    /**
+     * Names of columns of fields of parameter set.
+     */
+    public static final String[] COLUMNS = {"current_a_m2", "yield_mpa", "kth_mpa_m05",
+        "wall_mm", "depth_mm", "stress_mpa"};
+    /**
+     * Factors of conversion of values of columns to units of parameter set.
+     */
+    public static final double[] FACTORS = {1, 1, 1, 1e-3, 1e-3, 1};
+    /**
+     * Maximum count of kept messages of errors.
+     */
+    private static final int MAX_ERROR_MESSAGES = 100;
+    /**
+     * Size of block of reading.
+     */
+    private static final int BLOCK_SIZE = 1 << 16;
+    /**
+     * Charset of file.
+     */
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
+    /**
+     * Count of lines with errors.
+     */
+    private int errorCount;
+    /**
+     * Messages of errors.
+     */
+    private ArrayList<String> errors;
+    /**
+     * Separator of columns.
+     */
+    private byte separator;
+    /**
+     * Index of column of identifier or -1.
+     */
+    private int idColumn;
+    /**
+     * Fields of parameter set for columns of file, -1 for unknown columns.
+     */
+    private int[] columnFields;
+    /**
+     * Number of current line from 1.
+     */
+    private int lineNumber;
+
+    /**
+     * Constructor.
+     */
+    public SegmentImporter() {
+        errors = new ArrayList<String>();
+    }
+
+    /**
+     * Count of lines with errors.
+     * @return count of lines with errors
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Messages of errors, only first messages are kept.
+     * @return messages of errors
+     */
+    public ArrayList<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Import segments from file.
+     * @param file file
+     * @return table of segments
+     * @throws IOException exception
+     */
+    public SegmentTable importFile(final File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            return importStream(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Import segments from stream.
+     * @param in stream
+     * @return table of segments
+     * @throws IOException exception
+     */
+    public SegmentTable importStream(final InputStream in) throws IOException {
+        SegmentTable table = new SegmentTable();
+        errorCount = 0;
+        errors.clear();
+        columnFields = null;
+        lineNumber = 0;
+        byte[] buffer = new byte[BLOCK_SIZE];
+        //Bytes from start to end are not processed yet
+        int start = 0;
+        int end = 0;
+        boolean eof = false;
+        while (!eof || (start < end)) {
+            int k = start;
+            while ((k < end) && (buffer[k] != '\n')) {
+                k++;
+            }
+            if ((k == end) && !eof) {
+                //Line is not complete, next block is read after not processed bytes
+                if (start > 0) {
+                    System.arraycopy(buffer, start, buffer, 0, end - start);
+                    end = end - start;
+                    start = 0;
+                } else if (end == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                int n = in.read(buffer, end, buffer.length - end);
+                if (n < 0) {
+                    eof = true;
+                } else {
+                    end = end + n;
+                }
+                continue;
+            }
+            int lineEnd = k;
+            if ((lineEnd > start) && (buffer[lineEnd - 1] == '\r')) {
+                lineEnd--;
+            }
+            lineNumber++;
+            parseLine(buffer, start, lineEnd, table);
+            start = Math.min(k + 1, end);
+        }
+        if (columnFields == null) {
+            throw new IOException("Отсутствует строка заголовка");
+        }
+        return table;
+    }
+
+    /**
+     * Parse line.
+     * @param buffer bytes of text
+     * @param from first index of line
+     * @param to index after the last one
+     * @param table table of segments
+     */
+    private void parseLine(final byte[] buffer, final int from, final int to, final SegmentTable table) {
+        if (DecimalParser.isEmpty(buffer, from, to)) {
+            return;
+        }
+        if (columnFields == null) {
+            parseHeader(new String(buffer, from, to - from, CHARSET));
+            return;
+        }
+        double[] row = new double[SegmentTable.FIELD_COUNT];
+        Arrays.fill(row, Double.NaN);
+        String id = null;
+        int column = 0;
+        int a = from;
+        while (a <= to) {
+            int b = a;
+            while ((b < to) && (buffer[b] != separator)) {
+                b++;
+            }
+            if (column == idColumn) {
+                id = unquote(new String(buffer, a, b - a, CHARSET));
+            } else if ((column < columnFields.length) && (columnFields[column] >= 0)
+                    && !DecimalParser.isEmpty(buffer, a, b)) {
+                int field = columnFields[column];
+                double v;
+                try {
+                    v = DecimalParser.parseDouble(buffer, a, b);
+                } catch (NumberFormatException ex) {
+                    addError("неверное число в столбце " + COLUMNS[field] + " - "
+                            + new String(buffer, a, b - a, CHARSET).trim());
+                    return;
+                }
+                if (!(v > 0) || Double.isInfinite(v)) {
+                    addError("значение в столбце " + COLUMNS[field] + " должно быть положительным - "
+                            + new String(buffer, a, b - a, CHARSET).trim());
+                    return;
+                }
+                row[field] = v * FACTORS[field];
+            }
+            column++;
+            a = b + 1;
+        }
+        if ((id == null) || id.isEmpty()) {
+            id = String.valueOf(lineNumber);
+        }
+        table.add(id, row);
+    }
+
+    /**
+     * Parse header.
+     * @param line line of header
+     */
+    private void parseHeader(final String line) {
+        String s = line;
+        //Byte order mark
+        if (s.startsWith("\uFEFF")) {
+            s = s.substring(1);
+        }
+        if (s.indexOf(';') >= 0) {
+            separator = ';';
+        } else if (s.indexOf('\t') >= 0) {
+            separator = '\t';
+        } else {
+            separator = ',';
+        }
+        String[] names = s.split(String.valueOf((char) separator), -1);
+        columnFields = new int[names.length];
+        idColumn = -1;
+        for (int i = 0; i < names.length; i++) {
+            String name = unquote(names[i]).toLowerCase(Locale.US);
+            columnFields[i] = Arrays.asList(COLUMNS).indexOf(name);
+            if (name.equals(COLUMN_ID)) {
+                idColumn = i;
+            }
+        }
+    }
+
+    /**
+     * Remove spaces and quotes around value.
+     * @param s value
+     * @return value without spaces and quotes
+     */
+    private static String unquote(final String s) {
+        String o = s.trim();
+        if ((o.length() > 1) && o.startsWith("\"") && o.endsWith("\"")) {
+            o = o.substring(1, o.length() - 1).trim();
+        }
+        return o;
+    }
+
+    /**
+     * Add error of current line.
+     * @param message message of error
+     */
+    private void addError(final String message) {
+        errorCount++;
+        if (errors.size() < MAX_ERROR_MESSAGES) {
+            errors.add("Строка " + lineNumber + ": " + message);
+        }
+    }
+}
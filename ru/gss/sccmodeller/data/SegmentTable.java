@@ -0,0 +1,112 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+import java.util.Arrays;
+
+/**
+ * Table of parameters of pipe segments.
+ * Values are stored by columns in arrays of primitive values, fields are fields of parameter sweep
+ * (ParameterSweep.FIELD_CURRENT_DENSITY ... ParameterSweep.FIELD_STRESS) in units of parameter set.
+ * Value NaN means that value of base parameter set is used.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class SegmentTable {
+
+    /**
+     * Count of fields.
+     */
+    public static final int FIELD_COUNT = ParameterSweep.FIELD_STRESS + 1;
+    /**
+     * Initial capacity.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Identifiers of segments.
+     */
+    private String[] ids;
+    /**
+     * Values of fields by columns.
+     */
+    private double[][] values;
+    /**
+     * Count of segments.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    public SegmentTable() {
+        ids = new String[INITIAL_CAPACITY];
+        values = new double[FIELD_COUNT][INITIAL_CAPACITY];
+    }
+
+    /**
+     * Add segment.
+     * @param id identifier of segment
+     * @param row values of fields (NaN for value of base parameter set)
+     */
+    public void add(final String id, final double[] row) {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            for (int j = 0; j < FIELD_COUNT; j++) {
+                values[j] = Arrays.copyOf(values[j], capacity);
+            }
+        }
+        ids[size] = id;
+        for (int j = 0; j < FIELD_COUNT; j++) {
+            values[j][size] = row[j];
+        }
+        size++;
+    }
+
+    /**
+     * Count of segments.
+     * @return count of segments
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Identifier of segment.
+     * @param index index of segment
+     * @return identifier of segment
+     */
+    public String getId(final int index) {
+        return ids[index];
+    }
+
+    /**
+     * Value of field of segment.
+     * @param index index of segment
+     * @param field field of parameter set
+     * @return value of field or NaN for value of base parameter set
+     */
+    public double getValue(final int index, final int field) {
+        return values[field][index];
+    }
+
+    /**
+     * Parameter set of segment.
+     * @param index index of segment
+     * @param base base parameter set
+     * @return copy of base parameter set with values of segment
+     */
+    public DataSet createDataSet(final int index, final DataSet base) {
+        DataSet o = base.copy();
+        o.setName(ids[index]);
+        for (int j = 0; j < FIELD_COUNT; j++) {
+            double v = values[j][index];
+            if (!Double.isNaN(v)) {
+                ParameterSweep.setField(o, j, v);
+            }
+        }
+        return o;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+/**
+ * Stress intensity factor for fixed wall thickness and stress.
+ * Stress intensity factor is calculated by exact formula.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class StressIntensityKernel {
+
+    /**
+     * Wall thickness, m.
+     */
+    private final double wallThickness;
+    /**
+     * Stress, MPa.
+     */
+    private final double stress;
+
+    /**
+     * Constructor.
+     * @param aWallThickness wall thickness, m
+     * @param aStress stress, MPa
+     */
+    public StressIntensityKernel(final double aWallThickness, final double aStress) {
+        wallThickness = aWallThickness;
+        stress = aStress;
+    }
+
+    /**
+     * Calculation stress intensity factor by exact formula.
+     * @param a corrosion crack depth, m
+     * @param w wall thickness, m
+     * @param s stress, MPa
+     * @return stress intensity factor, MPam1/2
+     */
+    public static double calculate(final double a, final double w, final double s) {
+        double k1 = Math.sqrt(2 * w * Math.tan(Math.PI * a / 2 / w));
+        double k2 = Math.cos(Math.PI * a / 2 / w);
+        double k3 = 0.752 + 2.02 * a / w + 0.37 * Math.pow((1 - Math.sin(Math.PI * a / 2 / w)), 3);
+        double k = s * k1 / k2 * k3;
+        return k;
+    }
+
+    /**
+     * Calculation stress intensity factor.
+     * @param a corrosion crack depth, m
+     * @return stress intensity factor, MPam1/2
+     */
+    public double evaluate(final double a) {
+        return calculate(a, wallThickness, stress);
+    }
+
+    /**
+     * Calculation stress intensity factor for array of depths.
+     * Angles are calculated by separate loop without branches,
+     * so it can be vectorized by compiler. Results are the same as for single values.
+     * Arrays must be different.
+     * @param a corrosion crack depths, m
+     * @param k stress intensity factors, MPam1/2
+     * @param from first index
+     * @param to index after the last one
+     */
+    public void evaluate(final double[] a, final double[] k, final int from, final int to) {
+        double w = wallThickness;
+        for (int i = from; i < to; i++) {
+            k[i] = Math.PI * a[i] / 2 / w;
+        }
+        for (int i = from; i < to; i++) {
+            double phi = k[i];
+            double k1 = Math.sqrt(2 * w * Math.tan(phi));
+            double k2 = Math.cos(phi);
+            double k3 = 0.752 + 2.02 * a[i] / w + 0.37 * Math.pow((1 - Math.sin(phi)), 3);
+            k[i] = stress * k1 / k2 * k3;
+        }
+    }
+
+    /**
+     * Wall thickness.
+     * @return wall thickness, m
+     */
+    public double getWallThickness() {
+        return wallThickness;
+    }
+
+    /**
+     * Stress.
+     * @return stress, MPa
+     */
+    public double getStress() {
+        return stress;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+/**
+ * Table of results of parameter sweep.
+ * Values are stored by columns in arrays of primitive values.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class SweepResult {
+
+    /**
+     * Varied fields of parameter set.
+     */
+    private final int[] fields;
+    /**
+     * Values of varied fields, row after row.
+     */
+    private final double[] parameters;
+    /**
+     * Time of reaching critical crack depth, year.
+     */
+    private final double[] criticalTime;
+    /**
+     * Corrosion crack depth at the end of time interval, mm.
+     */
+    private final double[] finalDepth;
+
+    /**
+     * Constructor.
+     * @param aFields varied fields of parameter set
+     * @param pointCount count of points
+     */
+    public SweepResult(final int[] aFields, final int pointCount) {
+        fields = aFields.clone();
+        parameters = new double[pointCount * fields.length];
+        criticalTime = new double[pointCount];
+        finalDepth = new double[pointCount];
+    }
+
+    /**
+     * Count of points.
+     * @return count of points
+     */
+    public int getPointCount() {
+        return criticalTime.length;
+    }
+
+    /**
+     * Count of varied fields.
+     * @return count of varied fields
+     */
+    public int getFieldCount() {
+        return fields.length;
+    }
+
+    /**
+     * Varied field of parameter set.
+     * @param column index of varied field
+     * @return field of parameter set
+     */
+    public int getField(final int column) {
+        return fields[column];
+    }
+
+    /**
+     * Value of varied field.
+     * @param point index of point
+     * @param column index of varied field
+     * @return value of field
+     */
+    public double getParameter(final int point, final int column) {
+        return parameters[point * fields.length + column];
+    }
+
+    /**
+     * Value of varied field.
+     * @param point index of point
+     * @param column index of varied field
+     * @param value value of field
+     */
+    void setParameter(final int point, final int column, final double value) {
+        parameters[point * fields.length + column] = value;
+    }
+
+    /**
+     * Time of reaching critical crack depth.
+     * @param point index of point
+     * @return time, year (NaN if critical depth is not reached)
+     */
+    public double getCriticalTime(final int point) {
+        return criticalTime[point];
+    }
+
+    /**
+     * Corrosion crack depth at the end of time interval.
+     * @param point index of point
+     * @return depth, mm
+     */
+    public double getFinalDepth(final int point) {
+        return finalDepth[point];
+    }
+
+    /**
+     * Results of calculation for point.
+     * @param point index of point
+     * @param aCriticalTime time of reaching critical crack depth, year
+     * @param aFinalDepth corrosion crack depth at the end of time interval, mm
+     */
+    void setResult(final int point, final double aCriticalTime, final double aFinalDepth) {
+        criticalTime[point] = aCriticalTime;
+        finalDepth[point] = aFinalDepth;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Stress Corrosion Cracking Modeller
+ */
+package ru.gss.sccmodeller.data;
+
+/**
+ * Stress intensity factor for fixed wall thickness and stress calculated by cubic spline.
+ * Stress intensity factor is K = s * sqrt(w) * G(a/w), function K / (s * sqrt(a)) = G(x) / sqrt(x)
+ * of relative depth x = a/w is smooth and is tabulated once for all parameter sets.
+ * Outside the range of table stress intensity factor is calculated by exact formula.
+ * @version 1.1.0 17.10.2026
+ * @author Sergey Guskov
+ */
+public class TabulatedStressIntensityKernel extends StressIntensityKernel {
+
+    /**
+     * Minimum relative depth of table.
+     */
+    public static final double DEPTH_MIN = 1e-3;
+    /**
+     * Maximum relative depth of table, it is greater than critical depth
+     * because steps of integration can exceed critical depth.
+     */
+    public static final double DEPTH_MAX = 0.95;
+    /**
+     * Count of intervals of table.
+     */
+    public static final int INTERVAL_COUNT = 4096;
+    /**
+     * Count of control points on interval for estimate of error.
+     */
+    private static final int CONTROL_COUNT = 8;
+
+    /**
+     * Coefficients of cubic polynomials on intervals, four values for every interval.
+     */
+    private static final double[] COEFFICIENTS = new double[4 * INTERVAL_COUNT];
+    /**
+     * Length of interval.
+     */
+    private static final double STEP = (DEPTH_MAX - DEPTH_MIN) / INTERVAL_COUNT;
+    /**
+     * Maximum relative error of stress intensity factor in the range of table.
+     */
+    private static final double MAX_RELATIVE_ERROR;
+
+    static {
+        createSpline();
+        MAX_RELATIVE_ERROR = calculateMaxRelativeError();
+    }
+
+    /**
+     * Factor s * sqrt(w).
+     */
+    private final double scale;
+    /**
+     * Reciprocal of wall thickness, 1/m.
+     */
+    private final double reciprocalWallThickness;
+
+    /**
+     * Constructor.
+     * @param aWallThickness wall thickness, m
+     * @param aStress stress, MPa
+     */
+    public TabulatedStressIntensityKernel(final double aWallThickness, final double aStress) {
+        super(aWallThickness, aStress);
+        scale = aStress * Math.sqrt(aWallThickness);
+        reciprocalWallThickness = 1 / aWallThickness;
+    }
+
+    /**
+     * Tabulated function G(x) / sqrt(x).
+     * @param x relative depth
+     * @return value of function
+     */
+    private static double shape(final double x) {
+        return calculate(x, 1, 1) / Math.sqrt(x);
+    }
+
+    /**
+     * Derivative of tabulated function by central difference of fourth order.
+     * @param x relative depth
+     * @return derivative
+     */
+    private static double shapeDerivative(final double x) {
+        double d = 1e-4;
+        return (8 * (shape(x + d) - shape(x - d)) - (shape(x + 2 * d) - shape(x - 2 * d))) / (12 * d);
+    }
+
+    /**
+     * Calculation coefficients of cubic spline with derivatives of function at the ends of table.
+     * Second derivatives in nodes are found by sweep method.
+     */
+    private static void createSpline() {
+        int n = INTERVAL_COUNT;
+        double h = STEP;
+        double[] y = new double[n + 1];
+        for (int i = 0; i <= n; i++) {
+            y[i] = shape(DEPTH_MIN + i * h);
+        }
+        //Tridiagonal system for second derivatives: sub and super diagonal are 1
+        double[] diagonal = new double[n + 1];
+        double[] right = new double[n + 1];
+        diagonal[0] = 2;
+        right[0] = 6 / h * ((y[1] - y[0]) / h - shapeDerivative(DEPTH_MIN));
+        for (int i = 1; i < n; i++) {
+            diagonal[i] = 4;
+            right[i] = 6 / (h * h) * (y[i + 1] - 2 * y[i] + y[i - 1]);
+        }
+        diagonal[n] = 2;
+        right[n] = 6 / h * (shapeDerivative(DEPTH_MAX) - (y[n] - y[n - 1]) / h);
+        for (int i = 1; i <= n; i++) {
+            double c = 1 / diagonal[i - 1];
+            diagonal[i] = diagonal[i] - c;
+            right[i] = right[i] - c * right[i - 1];
+        }
+        double[] m = new double[n + 1];
+        m[n] = right[n] / diagonal[n];
+        for (int i = n - 1; i >= 0; i--) {
+            m[i] = (right[i] - m[i + 1]) / diagonal[i];
+        }
+        //Polynomial of part of interval u: c0 + c1 * u + c2 * u^2 + c3 * u^3
+        double h2 = h * h;
+        for (int i = 0; i < n; i++) {
+            COEFFICIENTS[4 * i] = y[i];
+            COEFFICIENTS[4 * i + 1] = y[i + 1] - y[i] - h2 * (2 * m[i] + m[i + 1]) / 6;
+            COEFFICIENTS[4 * i + 2] = h2 * m[i] / 2;
+            COEFFICIENTS[4 * i + 3] = h2 * (m[i + 1] - m[i]) / 6;
+        }
+    }
+
+    /**
+     * Maximum relative error of spline in control points inside every interval.
+     * @return maximum relative error
+     */
+    private static double calculateMaxRelativeError() {
+        double error = 0;
+        for (int i = 0; i < INTERVAL_COUNT; i++) {
+            for (int j = 1; j < CONTROL_COUNT; j++) {
+                double x = DEPTH_MIN + (i + (double) j / CONTROL_COUNT) * STEP;
+                double exact = calculate(x, 1, 1);
+                error = Math.max(error, Math.abs(Math.sqrt(x) * interpolate(x) / exact - 1));
+            }
+        }
+        return error;
+    }
+
+    /**
+     * Value of spline.
+     * @param x relative depth in the range of table
+     * @return value of function G(x) / sqrt(x)
+     */
+    private static double interpolate(final double x) {
+        double t = (x - DEPTH_MIN) / STEP;
+        int i = (int) t;
+        if (i >= INTERVAL_COUNT) {
+            i = INTERVAL_COUNT - 1;
+        }
+        double u = t - i;
+        int k = 4 * i;
+        return COEFFICIENTS[k] + u * (COEFFICIENTS[k + 1] + u * (COEFFICIENTS[k + 2] + u * COEFFICIENTS[k + 3]));
+    }
+
+    /**
+     * Maximum relative error of stress intensity factor in comparison with exact formula.
+     * Error is estimated once in control points inside every interval of table.
+     * @return maximum relative error
+     */
+    public static double getMaxRelativeError() {
+        return MAX_RELATIVE_ERROR;
+    }
+
+    /**
+     * Calculation stress intensity factor.
+     * @param a corrosion crack depth, m
+     * @return stress intensity factor, MPam1/2
+     */
+    @Override
+    public double evaluate(final double a) {
+        double x = a * reciprocalWallThickness;
+        if ((x >= DEPTH_MIN) && (x <= DEPTH_MAX)) {
+            return scale * Math.sqrt(x) * interpolate(x);
+        }
+        return super.evaluate(a);
+    }
+
+    /**
+     * Calculation stress intensity factor for array of depths.
+     * Relative depths are calculated by separate loop without branches,
+     * so it can be vectorized by compiler. Arrays must be different.
+     * @param a corrosion crack depths, m
+     * @param k stress intensity factors, MPam1/2
+     * @param from first index
+     * @param to index after the last one
+     */
+    @Override
+    public void evaluate(final double[] a, final double[] k, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            k[i] = a[i] * reciprocalWallThickness;
+        }
+        for (int i = from; i < to; i++) {
+            double x = k[i];
+            if ((x >= DEPTH_MIN) && (x <= DEPTH_MAX)) {
+                k[i] = scale * Math.sqrt(x) * interpolate(x);
+            } else {
+                k[i] = super.evaluate(a[i]);
+            }
+        }
+    }
+}